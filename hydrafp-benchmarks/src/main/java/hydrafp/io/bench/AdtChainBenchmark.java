@@ -0,0 +1,120 @@
+package hydrafp.io.bench;
+
+import hydrafp.io.core.adt.Either;
+import hydrafp.io.core.adt.Option;
+import hydrafp.io.core.adt.Pipeline;
+import hydrafp.io.core.adt.StacklessException;
+import hydrafp.io.core.adt.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdtChainBenchmark {
+
+    public int value = 42;
+
+    private static final StacklessException BOOM = StacklessException.preallocated("boom");
+
+    private final Pipeline.OfOption<Integer, Integer> optionPipeline = Pipeline.<Integer>forOption()
+            .map(i -> i + 1)
+            .filter(i -> i > 0)
+            .flatMap(i -> Option.some(i * 2));
+
+    private final Pipeline.OfEither<String, Integer, Integer> eitherPipeline = Pipeline.<String, Integer>forEither()
+            .map(i -> i + 1)
+            .flatMap(i -> i > 0 ? Either.right(i * 2) : Either.left("negative"));
+
+    private final Pipeline.OfTry<Integer, Integer> tryPipeline = Pipeline.<Integer>forTry()
+            .map(i -> i + 1)
+            .flatMap(i -> Try.success(i * 2));
+
+    @Benchmark
+    public Integer optionChain() {
+        return Option.of(value)
+                .map(i -> i + 1)
+                .filter(i -> i > 0)
+                .flatMap(i -> Option.some(i * 2))
+                .getOrElse(0);
+    }
+
+    @Benchmark
+    public Integer eitherChain() {
+        return Either.<String, Integer>right(value)
+                .map(i -> i + 1)
+                .flatMap(i -> i > 0 ? Either.right(i * 2) : Either.left("negative"))
+                .getRightOrElse(0);
+    }
+
+    @Benchmark
+    public Integer eitherLeftChain() {
+        return Either.<String, Integer>left("missing")
+                .map(i -> i + 1)
+                .flatMap(i -> Either.<String, Integer>right(i * 2))
+                .getRightOrElse(0);
+    }
+
+    @Benchmark
+    public Integer tryChain() {
+        return Try.of(() -> value)
+                .map(i -> i + 1)
+                .flatMap(i -> Try.success(i * 2))
+                .getOrElse(0);
+    }
+
+    @Benchmark
+    public Integer tryFailureChain() {
+        return Try.<Integer>of(() -> {
+                    throw new IllegalStateException("boom");
+                })
+                .map(i -> i + 1)
+                .recover(t -> -1)
+                .getOrElse(0);
+    }
+
+    @Benchmark
+    public Integer tryStacklessFailureChain() {
+        return Try.<Integer>of(() -> {
+                    throw BOOM;
+                })
+                .map(i -> i + 1)
+                .recover(t -> -1)
+                .getOrElse(0);
+    }
+
+    @Benchmark
+    public Integer tryFailFastChain() {
+        return Try.<Integer>failFast("boom")
+                .map(i -> i + 1)
+                .recover(t -> -1)
+                .getOrElse(0);
+    }
+
+    @Benchmark
+    public Integer optionPipeline() {
+        return optionPipeline.apply(value).getOrElse(0);
+    }
+
+    @Benchmark
+    public Integer eitherPipeline() {
+        return eitherPipeline.apply(value).getRightOrElse(0);
+    }
+
+    @Benchmark
+    public Integer tryPipeline() {
+        return tryPipeline.apply(value).getOrElse(0);
+    }
+}
@@ -0,0 +1,127 @@
+package hydrafp.io.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH CSV result file ({@code -rf csv -rff results.csv}) against a baseline produced the same way.
+ * Time scores and normalized allocation ({@code gc.alloc.rate.norm}) regress when they grow, throughput
+ * scores when they shrink. Exits with status 1 if any benchmark regressed by more than the tolerance.
+ */
+public final class BaselineCheck {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double ALLOCATION_SLACK_BYTES = 16;
+
+    private BaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineCheck <baseline.csv> <results.csv> [tolerancePercent]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        Map<String, Row> baseline = read(Path.of(args[0]));
+        Map<String, Row> results = read(Path.of(args[1]));
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Row> entry : results.entrySet()) {
+            Row expected = baseline.get(entry.getKey());
+            Row actual = entry.getValue();
+            if (expected == null || !actual.isChecked()) {
+                continue;
+            }
+            String verdict = actual.regressedFrom(expected, tolerance) ? "REGRESSED" : "ok";
+            String line = String.format("%-9s %s: %.3f -> %.3f %s", verdict, entry.getKey(), expected.score, actual.score, actual.unit);
+            System.out.println(line);
+            if (actual.regressedFrom(expected, tolerance)) {
+                regressions.add(line);
+            }
+        }
+        if (!regressions.isEmpty()) {
+            System.err.println(regressions.size() + " benchmark(s) regressed by more than " + Math.round(tolerance * 100) + "%");
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Row> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        List<String> header = parse(lines.get(0));
+        int benchmark = header.indexOf("Benchmark");
+        int mode = header.indexOf("Mode");
+        int score = header.indexOf("Score");
+        int unit = header.indexOf("Unit");
+        Map<String, Row> rows = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> cells = parse(line);
+            StringBuilder key = new StringBuilder(cells.get(benchmark));
+            for (int i = unit + 1; i < cells.size(); i++) {
+                if (!cells.get(i).isEmpty()) {
+                    key.append(' ').append(header.get(i).replace("Param: ", "")).append('=').append(cells.get(i));
+                }
+            }
+            rows.put(key.toString(), new Row(cells.get(benchmark), cells.get(mode),
+                    Double.parseDouble(cells.get(score)), cells.get(unit)));
+        }
+        return rows;
+    }
+
+    private static List<String> parse(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private static final class Row {
+        final String benchmark;
+        final String mode;
+        final double score;
+        final String unit;
+
+        Row(String benchmark, String mode, double score, String unit) {
+            this.benchmark = benchmark;
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+        }
+
+        boolean isAllocation() {
+            return benchmark.endsWith(ALLOCATION_METRIC);
+        }
+
+        boolean isChecked() {
+            return isAllocation() || !benchmark.contains(":");
+        }
+
+        boolean regressedFrom(Row baseline, double tolerance) {
+            if (isAllocation()) {
+                return score > baseline.score * (1 + tolerance) + ALLOCATION_SLACK_BYTES;
+            }
+            if (mode.equals("thrpt")) {
+                return score < baseline.score * (1 - tolerance);
+            }
+            return score > baseline.score * (1 + tolerance);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package hydrafp.io.bench;
+
+import hydrafp.io.core.adt.Either;
+import hydrafp.io.core.adt.Option;
+import hydrafp.io.core.adt.Try;
+import hydrafp.io.core.adt.Unit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wrapping values that have a shared case instance against values that do not.
+ * Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedInstanceBenchmark {
+
+    public enum Error { MISSING }
+
+    public Boolean flag = Boolean.TRUE;
+    public Integer small = 42;
+    public Integer large = 4242;
+    public Error error = Error.MISSING;
+    public String message = "missing";
+
+    @Benchmark
+    public Option<Boolean> someCached() {
+        return Option.some(flag);
+    }
+
+    @Benchmark
+    public Option<Integer> someUncached() {
+        return Option.some(large);
+    }
+
+    @Benchmark
+    public Either<String, Integer> rightCached() {
+        return Either.right(small);
+    }
+
+    @Benchmark
+    public Either<String, Integer> rightUncached() {
+        return Either.right(large);
+    }
+
+    @Benchmark
+    public Either<Error, Integer> leftCached() {
+        return Either.left(error);
+    }
+
+    @Benchmark
+    public Either<String, Integer> leftUncached() {
+        return Either.left(message);
+    }
+
+    @Benchmark
+    public Try<Unit> tryUnit() {
+        return Try.unit();
+    }
+
+    @Benchmark
+    public Try<Integer> successMapCached() {
+        return Try.success(small).map(i -> i + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> successMapUncached() {
+        return Try.success(large).map(i -> i + 1);
+    }
+}
@@ -0,0 +1,86 @@
+package hydrafp.io.bench;
+
+import hydrafp.io.core.effect.Effect;
+import hydrafp.io.core.effect.EffectTracing;
+import hydrafp.io.core.effect.Effects;
+import hydrafp.io.core.effect.SimpleRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EffectBenchmark {
+
+    @Param({"100"})
+    public int depth;
+
+    @Param({"OFF", "CACHED"})
+    public EffectTracing.Mode tracing;
+
+    private SimpleRuntime runtime;
+    private Effect<Integer> pureChain;
+    private Effect<Integer> ioChain;
+
+    @Setup
+    public void setUp() {
+        EffectTracing.setMode(tracing);
+        runtime = new SimpleRuntime();
+        Effect<Integer> pure = Effects.pure(0);
+        Effect<Integer> io = Effects.delay(() -> 0);
+        for (int i = 0; i < depth; i++) {
+            pure = pure.flatMap(n -> Effects.pure(n + 1));
+            io = io.flatMap(n -> Effects.delay(() -> n + 1));
+        }
+        pureChain = pure;
+        ioChain = io;
+    }
+
+    @TearDown
+    public void tearDown() {
+        runtime.shutdown();
+    }
+
+    @Benchmark
+    public Effect<Integer> buildFlatMapChain() {
+        Effect<Integer> effect = Effects.delay(() -> 0);
+        for (int i = 0; i < depth; i++) {
+            effect = effect.flatMap(n -> Effects.delay(() -> n + 1));
+        }
+        return effect;
+    }
+
+    @Benchmark
+    public Integer runPureChain() {
+        return pureChain.unsafeRunSync(runtime);
+    }
+
+    @Benchmark
+    public Integer runFlatMapChain() {
+        return ioChain.unsafeRunSync(runtime);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Integer runAsyncThroughput() {
+        CompletableFuture<Integer> future = ioChain.runAsync(runtime);
+        return future.join();
+    }
+}
@@ -0,0 +1,64 @@
+package hydrafp.io.bench;
+
+import hydrafp.io.dynamic.ExtensibleRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtensibleRecordBenchmark {
+
+    @Param({"20"})
+    public int fields;
+
+    private ExtensibleRecord.Field<Integer>[] keys;
+    private ExtensibleRecord full;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        keys = (ExtensibleRecord.Field<Integer>[]) new ExtensibleRecord.Field<?>[fields];
+        for (int i = 0; i < fields; i++) {
+            keys[i] = ExtensibleRecord.Field.of("field" + i);
+        }
+        full = extendAll();
+    }
+
+    @Benchmark
+    public ExtensibleRecord extendAll() {
+        ExtensibleRecord record = ExtensibleRecord.create();
+        for (int i = 0; i < keys.length; i++) {
+            record = record.extend(keys[i], i);
+        }
+        return record;
+    }
+
+    @Benchmark
+    public int getAll() {
+        int sum = 0;
+        for (ExtensibleRecord.Field<Integer> key : keys) {
+            sum += full.get(key).getOrElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public ExtensibleRecord modifyOne() {
+        return full.modify(keys[keys.length / 2], i -> i + 1);
+    }
+}
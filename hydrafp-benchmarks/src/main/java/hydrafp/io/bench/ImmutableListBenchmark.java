@@ -0,0 +1,106 @@
+package hydrafp.io.bench;
+
+import hydrafp.io.core.collections.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImmutableListBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private ImmutableList<Integer> immutable;
+    private List<Integer> arrayList;
+
+    @Setup
+    public void setUp() {
+        arrayList = new ArrayList<>(size);
+        ImmutableList<Integer> list = ImmutableList.empty();
+        for (int i = size - 1; i >= 0; i--) {
+            list = list.cons(i);
+        }
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+        }
+        immutable = list;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> immutableCons() {
+        ImmutableList<Integer> list = ImmutableList.empty();
+        for (int i = 0; i < size; i++) {
+            list = list.cons(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListAdd() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> immutableMapFilter() {
+        return immutable.map(i -> i * 2).filter(i -> i % 3 == 0);
+    }
+
+    @Benchmark
+    public List<Integer> arrayListMapFilter() {
+        List<Integer> result = new ArrayList<>();
+        for (Integer i : arrayList) {
+            int doubled = i * 2;
+            if (doubled % 3 == 0) {
+                result.add(doubled);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> streamMapFilter() {
+        return arrayList.stream().map(i -> i * 2).filter(i -> i % 3 == 0).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long immutableFoldLeft() {
+        return immutable.foldLeft(0L, (acc, i) -> acc + i);
+    }
+
+    @Benchmark
+    public long arrayListSum() {
+        long sum = 0;
+        for (Integer i : arrayList) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return arrayList.stream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,84 @@
+package hydrafp.io.bench;
+
+import hydrafp.io.core.adt.Option;
+import hydrafp.io.pattern.Match;
+import hydrafp.io.pattern.Matcher;
+import hydrafp.io.pattern.SealedMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchBenchmark {
+
+    public int value = 7;
+    public Object shape = 2.5d;
+
+    private Matcher<Integer, String> constants;
+    private Matcher<Object, String> types;
+    private SealedMatcher<Option<Integer>, Integer> options;
+    private Option<Integer> some;
+
+    @Setup
+    public void setUp() {
+        Matcher.Builder<Integer, String> builder = Match.compile();
+        for (int i = 0; i < 10; i++) {
+            builder.when(i).then("case " + i);
+        }
+        constants = builder.otherwise("other").build();
+        types = Match.<Object, String>compile()
+                .whenType(String.class).then(s -> "string")
+                .whenType(Integer.class).then(i -> "int")
+                .whenType(Double.class).then(d -> "double")
+                .otherwise("other")
+                .build();
+        options = Match.<Integer, Integer>onOption().some(i -> i).none(() -> 0).build();
+        some = Option.some(value);
+    }
+
+    @Benchmark
+    public Option<String> fluentConstant() {
+        return Match.of(value)
+                .when(1).then("one")
+                .when(7).then("seven")
+                .otherwise("other");
+    }
+
+    @Benchmark
+    public String compiledConstant() {
+        return constants.apply(value);
+    }
+
+    @Benchmark
+    public Option<Object> fluentType() {
+        return Match.of(shape)
+                .whenType(String.class).then(s -> "string")
+                .whenType(Integer.class).then(i -> "int")
+                .whenType(Double.class).then(d -> "double")
+                .otherwise("other");
+    }
+
+    @Benchmark
+    public String compiledType() {
+        return types.apply(shape);
+    }
+
+    @Benchmark
+    public Integer sealedOption() {
+        return options.apply(some);
+    }
+}
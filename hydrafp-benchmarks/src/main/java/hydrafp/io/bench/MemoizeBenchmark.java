@@ -0,0 +1,46 @@
+package hydrafp.io.bench;
+
+import hydrafp.io.core.memo.Memoize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizeBenchmark {
+
+    private Function<Integer, Integer> memoized;
+    private int nextKey;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        memoized = Memoize.memoize(i -> i * 31);
+        memoized.apply(7);
+        nextKey = 1_000;
+    }
+
+    @Benchmark
+    public Integer hit() {
+        return memoized.apply(7);
+    }
+
+    @Benchmark
+    public Integer miss() {
+        return memoized.apply(nextKey++);
+    }
+}
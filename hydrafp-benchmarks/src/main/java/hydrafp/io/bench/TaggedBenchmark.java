@@ -0,0 +1,70 @@
+package hydrafp.io.bench;
+
+import hydrafp.io.core.tagged.Tagged;
+import hydrafp.io.core.tagged.TaggedLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaggedBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private Map<Tagged<String, Long>, Long> boxedKeys;
+    private Map<TaggedLong<String>, Long> primitiveKeys;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        boxedKeys = new HashMap<>();
+        primitiveKeys = new HashMap<>();
+        for (long i = 0; i < size; i++) {
+            boxedKeys.put(Tagged.of(i * 1_000), i);
+            primitiveKeys.put(TaggedLong.of(i * 1_000), i);
+        }
+    }
+
+    private long nextId() {
+        next = (next + 7_919) % size;
+        return next * 1_000;
+    }
+
+    @Benchmark
+    public Long lookupTagged() {
+        return boxedKeys.get(Tagged.of(nextId()));
+    }
+
+    @Benchmark
+    public Long lookupTaggedLong() {
+        return primitiveKeys.get(TaggedLong.of(nextId()));
+    }
+
+    @Benchmark
+    public Tagged<String, Long> internTagged() {
+        return Tagged.intern(nextId() % 512);
+    }
+
+    @Benchmark
+    public int hashTagged() {
+        return Tagged.of(nextId()).hashCode();
+    }
+}
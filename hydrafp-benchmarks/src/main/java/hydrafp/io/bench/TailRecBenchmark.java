@@ -0,0 +1,95 @@
+package hydrafp.io.bench;
+
+import hydrafp.io.core.tco.StepwiseRecursion;
+import hydrafp.io.core.tco.TailRec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TailRecBenchmark {
+
+    @Param({"1000000"})
+    public long n;
+
+    @Benchmark
+    public long plainLoop() {
+        long acc = 0;
+        for (long i = n; i > 0; i--) {
+            acc += i;
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public Long customNode() {
+        return new Countdown(n).run().getRight();
+    }
+
+    @Benchmark
+    public Long deferred() {
+        return countDown(n, 0).run().getRight();
+    }
+
+    @Benchmark
+    public Long flatMapped() {
+        return sumTo(n, 0).run().getRight();
+    }
+
+    @Benchmark
+    public long[] stepwise() {
+        return StepwiseRecursion.start(new long[]{n, 0})
+                .step(s -> {
+                    s[1] += s[0];
+                    s[0]--;
+                    return s;
+                })
+                .until(s -> s[0] == 0)
+                .build()
+                .compute()
+                .getRight();
+    }
+
+    private static TailRec<Long> countDown(long n, long acc) {
+        return n == 0 ? TailRec.pure(acc) : TailRec.defer(() -> countDown(n - 1, acc + n));
+    }
+
+    private static TailRec<Long> sumTo(long n, long acc) {
+        return n == 0 ? TailRec.pure(acc) : TailRec.<Long>pure(n).flatMap(k -> sumTo(k - 1, acc + k));
+    }
+
+    /**
+     * A mutable node that returns itself from resume(), the allocation-free shape the run loop supports.
+     */
+    private static final class Countdown implements TailRec<Long> {
+        private long remaining;
+        private long acc;
+
+        Countdown(long n) {
+            this.remaining = n;
+        }
+
+        @Override
+        public TailRec<Long> resume() {
+            if (remaining == 0) {
+                return TailRec.pure(acc);
+            }
+            acc += remaining--;
+            return this;
+        }
+    }
+}
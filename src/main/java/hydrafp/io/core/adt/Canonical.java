@@ -0,0 +1,69 @@
+package hydrafp.io.core.adt;
+
+import java.util.function.Function;
+
+/**
+ * Preallocated case instances for the values ADTs wrap most often: booleans, the empty string,
+ * integers and longs in the range the JDK caches boxes for, and enum constants such as {@link Unit}.
+ */
+final class Canonical<C> {
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+    private static final int RANGE = HIGH - LOW + 1;
+    private static final int EMPTY_STRING = 2;
+    private static final int INTS = 3;
+    private static final int LONGS = INTS + RANGE;
+    private static final int SIZE = LONGS + RANGE;
+
+    private final Function<Object, C> factory;
+    private final Object[] common;
+    private final ClassValue<Object[]> enums = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Object[] cases = new Object[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                cases[i] = factory.apply(constants[i]);
+            }
+            return cases;
+        }
+    };
+
+    Canonical(Function<Object, C> factory) {
+        this.factory = factory;
+        this.common = new Object[SIZE];
+        common[0] = factory.apply(Boolean.FALSE);
+        common[1] = factory.apply(Boolean.TRUE);
+        common[EMPTY_STRING] = factory.apply("");
+        for (int i = 0; i < RANGE; i++) {
+            common[INTS + i] = factory.apply(LOW + i);
+            common[LONGS + i] = factory.apply((long) (LOW + i));
+        }
+    }
+
+    /**
+     * Returns the shared instance wrapping a value equal to the given one, or null if the value is not cached.
+     */
+    @SuppressWarnings("unchecked")
+    C get(Object value) {
+        if (value instanceof Integer) {
+            int i = (Integer) value;
+            return i >= LOW && i <= HIGH ? (C) common[INTS + i - LOW] : null;
+        }
+        if (value instanceof Boolean) {
+            return (C) common[(Boolean) value ? 1 : 0];
+        }
+        if (value instanceof Enum) {
+            Enum<?> constant = (Enum<?>) value;
+            return (C) enums.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+        if (value instanceof Long) {
+            long l = (Long) value;
+            return l >= LOW && l <= HIGH ? (C) common[LONGS + (int) l - LOW] : null;
+        }
+        if (value instanceof String) {
+            return ((String) value).isEmpty() ? (C) common[EMPTY_STRING] : null;
+        }
+        return null;
+    }
+}
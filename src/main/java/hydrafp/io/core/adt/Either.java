@@ -11,15 +11,40 @@ import java.util.function.Supplier;
 
 
 public abstract class Either<L, R> {
+    private static final Canonical<Left<?, ?>> CANONICAL_LEFT = new Canonical<>(Left::new);
+    private static final Canonical<Right<?, ?>> CANONICAL_RIGHT = new Canonical<>(Right::new);
+    private static final Either<?, Unit> UNIT = right(Unit.INSTANCE);
+
     private Either() {
     }
 
     public static <L, R> Either<L, R> left(L value) {
-        return new Left<>(Objects.requireNonNull(value, "Left value must not be null"));
+        return leftOf(Objects.requireNonNull(value, "Left value must not be null"));
     }
 
     public static <L, R> Either<L, R> right(R value) {
-        return new Right<>(Objects.requireNonNull(value, "Right value must not be null"));
+        return rightOf(Objects.requireNonNull(value, "Right value must not be null"));
+    }
+
+    public static <R> Either<Throwable, R> leftNoTrace(String message) {
+        return new Left<>(new StacklessException(Objects.requireNonNull(message, "message must not be null")));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L> Either<L, Unit> unit() {
+        return (Either<L, Unit>) UNIT;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <L, R> Either<L, R> leftOf(L value) {
+        Left<?, ?> cached = CANONICAL_LEFT.get(value);
+        return cached != null ? (Either<L, R>) cached : new Left<>(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <L, R> Either<L, R> rightOf(R value) {
+        Right<?, ?> cached = CANONICAL_RIGHT.get(value);
+        return cached != null ? (Either<L, R>) cached : new Right<>(value);
     }
 
     public abstract <T> T fold(Function1<? super L, ? extends T> leftMapper, Function1<? super R, ? extends T> rightMapper);
@@ -40,6 +65,8 @@ public abstract class Either<L, R> {
 
     public abstract boolean isRight();
 
+    public abstract int ordinal();
+
     public abstract L getLeft();
 
     public abstract R getRight();
@@ -128,7 +155,7 @@ public abstract class Either<L, R> {
 
         @Override
         public <T> Either<T, R> mapLeft(Function1<? super L, ? extends T> mapper) {
-            return new Left<>(mapper.apply(value));
+            return leftOf(mapper.apply(value));
         }
 
         @Override
@@ -156,6 +183,11 @@ public abstract class Either<L, R> {
             return false;
         }
 
+        @Override
+        public int ordinal() {
+            return 0;
+        }
+
         @Override
         public L getLeft() {
             return value;
@@ -178,7 +210,7 @@ public abstract class Either<L, R> {
 
         @Override
         public Either<R, L> swap() {
-            return new Right<>(value);
+            return rightOf(value);
         }
 
         @Override
@@ -242,7 +274,7 @@ public abstract class Either<L, R> {
 
         @Override
         public <T> Either<L, T> map(Function1<? super R, ? extends T> mapper) {
-            return new Right<>(mapper.apply(value));
+            return rightOf(mapper.apply(value));
         }
 
         @Override
@@ -262,12 +294,12 @@ public abstract class Either<L, R> {
 
         @Override
         public Either<L, R> filter(Predicate<? super R> predicate, Supplier<? extends L> leftSupplier) {
-            return predicate.test(value) ? this : new Left<>(leftSupplier.get());
+            return predicate.test(value) ? this : leftOf(leftSupplier.get());
         }
 
         @Override
         public Either<L, R> filterOrElse(Predicate<? super R> predicate, Function1<? super R, ? extends L> leftMapper) {
-            return predicate.test(value) ? this : new Left<>(leftMapper.apply(value));
+            return predicate.test(value) ? this : leftOf(leftMapper.apply(value));
         }
 
         @Override
@@ -280,6 +312,11 @@ public abstract class Either<L, R> {
             return true;
         }
 
+        @Override
+        public int ordinal() {
+            return 1;
+        }
+
         @Override
         public L getLeft() {
             throw new NoSuchElementException("Cannot get left value from Right");
@@ -302,7 +339,7 @@ public abstract class Either<L, R> {
 
         @Override
         public Either<R, L> swap() {
-            return new Left<>(value);
+            return leftOf(value);
         }
 
         @Override
@@ -12,6 +12,8 @@ import java.util.stream.Stream;
 
 public abstract class Option<T> {
 
+    private static final Canonical<Some<?>> CANONICAL = new Canonical<>(Some::new);
+
     private Option() {
     } // Prevent direct instantiation
 
@@ -19,8 +21,10 @@ public abstract class Option<T> {
         return value == null ? none() : some(value);
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Option<T> some(T value) {
-        return new Some<>(Objects.requireNonNull(value, "value must not be null"));
+        Some<?> cached = CANONICAL.get(Objects.requireNonNull(value, "value must not be null"));
+        return cached != null ? (Option<T>) cached : new Some<>(value);
     }
 
     @SuppressWarnings("unchecked")
@@ -38,6 +42,8 @@ public abstract class Option<T> {
 
     public abstract boolean isEmpty();
 
+    public abstract int ordinal();
+
     public boolean isDefined() {
         return !isEmpty();
     }
@@ -91,6 +97,11 @@ public abstract class Option<T> {
             return false;
         }
 
+        @Override
+        public int ordinal() {
+            return 1;
+        }
+
         @Override
         public <L> Either<L, T> toEither(Supplier<L> leftSupplier) {
             return Either.right(value);
@@ -193,6 +204,11 @@ public abstract class Option<T> {
             return true;
         }
 
+        @Override
+        public int ordinal() {
+            return 0;
+        }
+
 
         @Override
         public <L> Either<L, T> toEither(Supplier<L> leftSupplier) {
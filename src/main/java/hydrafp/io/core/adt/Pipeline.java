@@ -0,0 +1,222 @@
+package hydrafp.io.core.adt;
+
+import hydrafp.io.core.functions.Function1;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Fused Option, Either and Try chains. Steps are collected once into an array and applied in a single
+ * loop over the raw value, so a run allocates only its result instead of one wrapper per step, and stops
+ * at the first None, Left or Failure.
+ */
+public final class Pipeline {
+    private static final int MAP = 0;
+    private static final int FLAT_MAP = 1;
+    private static final int FILTER = 2;
+    private static final Step[] NO_STEPS = new Step[0];
+
+    private Pipeline() {
+    }
+
+    public static <A> OfOption<A, A> forOption() {
+        return new OfOption<>(NO_STEPS);
+    }
+
+    public static <L, A> OfEither<L, A, A> forEither() {
+        return new OfEither<>(NO_STEPS);
+    }
+
+    public static <A> OfTry<A, A> forTry() {
+        return new OfTry<>(NO_STEPS);
+    }
+
+    private static final class Step {
+        final int kind;
+        final Function1<Object, Object> function;
+        final Predicate<Object> predicate;
+
+        @SuppressWarnings("unchecked")
+        Step(int kind, Function1<?, ?> function, Predicate<?> predicate) {
+            this.kind = kind;
+            this.function = (Function1<Object, Object>) function;
+            this.predicate = (Predicate<Object>) predicate;
+        }
+    }
+
+    private static Step[] append(Step[] steps, int kind, Function1<?, ?> function, Predicate<?> predicate) {
+        Step[] appended = Arrays.copyOf(steps, steps.length + 1);
+        appended[steps.length] = new Step(kind, function, predicate);
+        return appended;
+    }
+
+    public static final class OfOption<A, B> implements Function1<A, Option<B>> {
+        private final Step[] steps;
+
+        private OfOption(Step[] steps) {
+            this.steps = steps;
+        }
+
+        public <C> OfOption<A, C> map(Function1<? super B, ? extends C> mapper) {
+            Objects.requireNonNull(mapper, "mapper must not be null");
+            return new OfOption<>(append(steps, MAP, mapper, null));
+        }
+
+        public <C> OfOption<A, C> flatMap(Function1<? super B, Option<C>> mapper) {
+            Objects.requireNonNull(mapper, "mapper must not be null");
+            return new OfOption<>(append(steps, FLAT_MAP, mapper, null));
+        }
+
+        public OfOption<A, B> filter(Predicate<? super B> predicate) {
+            Objects.requireNonNull(predicate, "predicate must not be null");
+            return new OfOption<>(append(steps, FILTER, null, predicate));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Option<B> apply(A input) {
+            Object current = input;
+            for (Step step : steps) {
+                if (current == null) {
+                    return Option.none();
+                }
+                switch (step.kind) {
+                    case MAP:
+                        current = step.function.apply(current);
+                        break;
+                    case FLAT_MAP:
+                        Option<?> next = (Option<?>) step.function.apply(current);
+                        if (next.isEmpty()) {
+                            return Option.none();
+                        }
+                        current = next.get();
+                        break;
+                    default:
+                        if (!step.predicate.test(current)) {
+                            return Option.none();
+                        }
+                }
+            }
+            return Option.of((B) current);
+        }
+
+        public Option<B> applyTo(Option<A> source) {
+            return source.isEmpty() ? Option.none() : apply(source.get());
+        }
+    }
+
+    public static final class OfEither<L, A, B> implements Function1<A, Either<L, B>> {
+        private final Step[] steps;
+
+        private OfEither(Step[] steps) {
+            this.steps = steps;
+        }
+
+        public <C> OfEither<L, A, C> map(Function1<? super B, ? extends C> mapper) {
+            Objects.requireNonNull(mapper, "mapper must not be null");
+            return new OfEither<>(append(steps, MAP, mapper, null));
+        }
+
+        public <C> OfEither<L, A, C> flatMap(Function1<? super B, ? extends Either<L, C>> mapper) {
+            Objects.requireNonNull(mapper, "mapper must not be null");
+            return new OfEither<>(append(steps, FLAT_MAP, mapper, null));
+        }
+
+        public OfEither<L, A, B> filterOrElse(Predicate<? super B> predicate, Function1<? super B, ? extends L> leftMapper) {
+            Objects.requireNonNull(predicate, "predicate must not be null");
+            Objects.requireNonNull(leftMapper, "leftMapper must not be null");
+            return new OfEither<>(append(steps, FILTER, leftMapper, predicate));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Either<L, B> apply(A input) {
+            Object current = input;
+            for (Step step : steps) {
+                switch (step.kind) {
+                    case MAP:
+                        current = step.function.apply(current);
+                        break;
+                    case FLAT_MAP:
+                        Either<L, ?> next = Objects.requireNonNull((Either<L, ?>) step.function.apply(current),
+                                "mapper result must not be null");
+                        if (next.isLeft()) {
+                            return (Either<L, B>) next;
+                        }
+                        current = next.getRight();
+                        break;
+                    default:
+                        if (!step.predicate.test(current)) {
+                            return Either.left((L) step.function.apply(current));
+                        }
+                }
+            }
+            return Either.right((B) current);
+        }
+
+        @SuppressWarnings("unchecked")
+        public Either<L, B> applyTo(Either<L, A> source) {
+            return source.isLeft() ? (Either<L, B>) source : apply(source.getRight());
+        }
+    }
+
+    public static final class OfTry<A, B> implements Function1<A, Try<B>> {
+        private final Step[] steps;
+
+        private OfTry(Step[] steps) {
+            this.steps = steps;
+        }
+
+        public <C> OfTry<A, C> map(Function1<? super B, ? extends C> mapper) {
+            Objects.requireNonNull(mapper, "mapper must not be null");
+            return new OfTry<>(append(steps, MAP, mapper, null));
+        }
+
+        public <C> OfTry<A, C> flatMap(Function1<? super B, ? extends Try<C>> mapper) {
+            Objects.requireNonNull(mapper, "mapper must not be null");
+            return new OfTry<>(append(steps, FLAT_MAP, mapper, null));
+        }
+
+        public OfTry<A, B> filter(Predicate<? super B> predicate) {
+            Objects.requireNonNull(predicate, "predicate must not be null");
+            return new OfTry<>(append(steps, FILTER, null, predicate));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Try<B> apply(A input) {
+            Object current = input;
+            try {
+                for (Step step : steps) {
+                    switch (step.kind) {
+                        case MAP:
+                            current = step.function.apply(current);
+                            break;
+                        case FLAT_MAP:
+                            Try<?> next = Objects.requireNonNull((Try<?>) step.function.apply(current),
+                                    "mapper result must not be null");
+                            if (next.isFailure()) {
+                                return (Try<B>) next;
+                            }
+                            current = next.get();
+                            break;
+                        default:
+                            if (!step.predicate.test(current)) {
+                                return Try.failure(new NoSuchElementException("Predicate does not hold for " + current));
+                            }
+                    }
+                }
+            } catch (Throwable t) {
+                return Try.failure(t);
+            }
+            return Try.success((B) current);
+        }
+
+        @SuppressWarnings("unchecked")
+        public Try<B> applyTo(Try<A> source) {
+            return source.isFailure() ? (Try<B>) source : apply(source.get());
+        }
+    }
+}
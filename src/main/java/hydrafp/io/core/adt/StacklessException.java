@@ -0,0 +1,25 @@
+package hydrafp.io.core.adt;
+
+/**
+ * An exception that never captures a stack trace, for failures that are an expected outcome rather than a bug.
+ * Its cause is fixed at construction and suppression is disabled, so a single instance can be shared freely.
+ */
+public class StacklessException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public StacklessException(String message) {
+        super(message, null, false, false);
+    }
+
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+
+    /**
+     * Creates an instance to be kept in a caller's {@code static final} field and thrown or returned repeatedly.
+     * Nothing is cached here, so use it only for constant messages and build per-call messages with the constructor.
+     */
+    public static StacklessException preallocated(String message) {
+        return new StacklessException(message);
+    }
+}
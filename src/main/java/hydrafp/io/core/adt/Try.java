@@ -9,30 +9,45 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public abstract class Try<T> {
+    private static final Canonical<Success<?>> CANONICAL = new Canonical<>(Success::new);
+    private static final Try<Unit> UNIT = success(Unit.INSTANCE);
+
     private Try() {
     }
 
     public static <T> Try<T> of(Supplier<? extends T> supplier) {
         Objects.requireNonNull(supplier, "supplier must not be null");
         try {
-            return new Success<>(supplier.get());
+            return success(supplier.get());
         } catch (Throwable t) {
             return new Failure<>(t);
         }
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Try<T> success(T value) {
-        return new Success<>(value);
+        Success<?> cached = CANONICAL.get(value);
+        return cached != null ? (Try<T>) cached : new Success<>(value);
+    }
+
+    public static Try<Unit> unit() {
+        return UNIT;
     }
 
     public static <T> Try<T> failure(Throwable error) {
         return new Failure<>(Objects.requireNonNull(error, "error must not be null"));
     }
 
+    public static <T> Try<T> failFast(String message) {
+        return new Failure<>(new StacklessException(Objects.requireNonNull(message, "message must not be null")));
+    }
+
     public abstract boolean isSuccess();
 
     public abstract boolean isFailure();
 
+    public abstract int ordinal();
+
     public abstract T get();
 
     public abstract Throwable getFailure();
@@ -103,6 +118,11 @@ public abstract class Try<T> {
             return false;
         }
 
+        @Override
+        public int ordinal() {
+            return 1;
+        }
+
         @Override
         public T get() {
             return value;
@@ -116,7 +136,11 @@ public abstract class Try<T> {
         @Override
         public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
             Objects.requireNonNull(mapper, "mapper must not be null");
-            return Try.of(() -> mapper.apply(value));
+            try {
+                return success(mapper.apply(value));
+            } catch (Throwable t) {
+                return new Failure<>(t);
+            }
         }
 
         @Override
@@ -247,6 +271,11 @@ public abstract class Try<T> {
             return true;
         }
 
+        @Override
+        public int ordinal() {
+            return 0;
+        }
+
         @Override
         public T get() {
             throw new RuntimeException("Cannot get value from Failure", exception);
@@ -0,0 +1,13 @@
+package hydrafp.io.core.adt;
+
+/**
+ * The type with a single value, used as the result of computations that succeed without producing anything.
+ */
+public enum Unit {
+    INSTANCE;
+
+    @Override
+    public String toString() {
+        return "()";
+    }
+}
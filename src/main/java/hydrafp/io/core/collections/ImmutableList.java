@@ -92,9 +92,9 @@ public abstract class ImmutableList<T> implements FCollection<T> {
     public <U> U foldLeft(U initial, BiFunction<U, T, U> operator) {
         U result = initial;
         ImmutableList<T> current = this;
-        while (!current.isEmpty()) {
-            result = operator.apply(result, current.head().getOrElse(() -> null));
-            current = current.tail();
+        while (current instanceof Cons<T> cons) {
+            result = operator.apply(result, cons.head);
+            current = cons.tail;
         }
         return result;
     }
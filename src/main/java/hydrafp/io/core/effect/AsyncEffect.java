@@ -0,0 +1,72 @@
+package hydrafp.io.core.effect;
+
+import hydrafp.io.core.adt.Either;
+import hydrafp.io.core.adt.Option;
+import hydrafp.io.core.adt.Try;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * An effect with its own asynchronous run, for retries that can wait without holding a thread and for flatMaps
+ * whose inner effect may be one.
+ * Synchronous runs go through {@code sync}; map, flatMap and recover compose onto both paths, so the
+ * asynchronous one keeps chaining futures instead of falling back to a blocking run on the executor.
+ */
+final class AsyncEffect<A> implements IOEffect<A> {
+    private final Effect<A> sync;
+    private final Function<Runtime, CompletableFuture<A>> async;
+
+    AsyncEffect(Effect<A> sync, Function<Runtime, CompletableFuture<A>> async) {
+        this.sync = sync;
+        this.async = async;
+    }
+
+    @Override
+    public <B> Effect<B> map(Function<? super A, ? extends B> mapper) {
+        return new AsyncEffect<>(sync.map(mapper), runtime -> async.apply(runtime).thenApply(mapper));
+    }
+
+    @Override
+    public <B> Effect<B> flatMap(Function<? super A, ? extends Effect<B>> mapper) {
+        Effect<B> next = sync instanceof IOEffectImpl ? ((IOEffectImpl<A>) sync).bind(mapper) : sync.flatMap(mapper);
+        return new AsyncEffect<>(next,
+                runtime -> async.apply(runtime).thenCompose(a -> mapper.apply(a).runAsync(runtime)));
+    }
+
+    @Override
+    public Effect<A> recover(Function<? super Throwable, ? extends A> recovery) {
+        return new AsyncEffect<>(sync.recover(recovery),
+                runtime -> async.apply(runtime).exceptionally(t -> recovery.apply(unwrap(t))));
+    }
+
+    @Override
+    public CompletableFuture<A> runAsync(Runtime runtime) {
+        return async.apply(runtime);
+    }
+
+    @Override
+    public A unsafeRunSync(Runtime runtime) {
+        return sync.unsafeRunSync(runtime);
+    }
+
+    @Override
+    public Try<A> attempt(Runtime runtime) {
+        return sync.attempt(runtime);
+    }
+
+    @Override
+    public Either<Throwable, A> toEither(Runtime runtime) {
+        return attempt(runtime).toEither(Function.identity());
+    }
+
+    @Override
+    public Option<A> toOption(Runtime runtime) {
+        return attempt(runtime).toOption();
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+}
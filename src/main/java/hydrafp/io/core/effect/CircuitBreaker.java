@@ -0,0 +1,155 @@
+package hydrafp.io.core.effect;
+
+import hydrafp.io.core.adt.StacklessException;
+import hydrafp.io.core.adt.Try;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Fails effects fast while a downstream dependency is failing. After a number of consecutive failures the
+ * breaker opens and rejects calls with a shared, stackless {@link OpenException}. Once the reset timeout has
+ * passed a single probe call is let through: its success closes the breaker, its failure opens it again.
+ * All transitions are compare-and-set on an immutable state, so no call ever takes a lock.
+ */
+public final class CircuitBreaker {
+    public enum Status { CLOSED, OPEN, HALF_OPEN }
+
+    private static final State CLOSED = new State(Status.CLOSED, 0, 0);
+
+    private final int failureThreshold;
+    private final long resetTimeoutNanos;
+    private final LongSupplier clock;
+    private final OpenException rejection = new OpenException();
+    private final AtomicReference<State> state = new AtomicReference<>(CLOSED);
+
+    CircuitBreaker(int failureThreshold, Duration resetTimeout, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1, was " + failureThreshold);
+        }
+        Objects.requireNonNull(resetTimeout, "resetTimeout must not be null");
+        if (resetTimeout.isNegative()) {
+            throw new IllegalArgumentException("resetTimeout must not be negative, was " + resetTimeout);
+        }
+        this.failureThreshold = failureThreshold;
+        this.resetTimeoutNanos = resetTimeout.toNanos();
+        this.clock = clock;
+    }
+
+    public static CircuitBreaker of(int failureThreshold, Duration resetTimeout) {
+        return new CircuitBreaker(failureThreshold, resetTimeout, System::nanoTime);
+    }
+
+    public <A> Effect<A> protect(Effect<A> effect) {
+        Objects.requireNonNull(effect, "effect must not be null");
+        return new AsyncEffect<>(new IOEffectImpl<>(runtime -> {
+            if (!tryAcquire()) {
+                return Try.failure(rejection);
+            }
+            Try<A> result;
+            try {
+                result = effect.attempt(runtime);
+            } catch (Throwable t) {
+                onFailure();
+                throw t;
+            }
+            if (result.isSuccess()) {
+                onSuccess();
+            } else {
+                onFailure();
+            }
+            return result;
+        }), runtime -> {
+            if (!tryAcquire()) {
+                return CompletableFuture.failedFuture(rejection);
+            }
+            CompletableFuture<A> result;
+            try {
+                result = effect.runAsync(runtime);
+            } catch (Throwable t) {
+                onFailure();
+                throw t;
+            }
+            return result.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    onSuccess();
+                } else {
+                    onFailure();
+                }
+            });
+        });
+    }
+
+    public Status status() {
+        return state.get().status;
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            State current = state.get();
+            switch (current.status) {
+                case CLOSED:
+                    return true;
+                case HALF_OPEN:
+                    return false;
+                default:
+                    if (clock.getAsLong() - current.openedAt < resetTimeoutNanos) {
+                        return false;
+                    }
+                    if (state.compareAndSet(current, new State(Status.HALF_OPEN, 0, current.openedAt))) {
+                        return true;
+                    }
+            }
+        }
+    }
+
+    private void onSuccess() {
+        State current = state.get();
+        while (current != CLOSED && current.status != Status.OPEN) {
+            if (state.compareAndSet(current, CLOSED)) {
+                return;
+            }
+            current = state.get();
+        }
+    }
+
+    private void onFailure() {
+        while (true) {
+            State current = state.get();
+            State next;
+            if (current.status == Status.OPEN) {
+                return;
+            } else if (current.status == Status.HALF_OPEN || current.failures + 1 >= failureThreshold) {
+                next = new State(Status.OPEN, 0, clock.getAsLong());
+            } else {
+                next = new State(Status.CLOSED, current.failures + 1, 0);
+            }
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static final class State {
+        final Status status;
+        final int failures;
+        final long openedAt;
+
+        State(Status status, int failures, long openedAt) {
+            this.status = status;
+            this.failures = failures;
+            this.openedAt = openedAt;
+        }
+    }
+
+    public static final class OpenException extends StacklessException {
+        private static final long serialVersionUID = 1L;
+
+        private OpenException() {
+            super("Circuit breaker is open");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package hydrafp.io.core.effect;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Holder for the shared timer used to wait between retries. It only fires wake-ups and hands the
+ * actual work back to the runtime's executor, so a single daemon thread is enough.
+ */
+final class DefaultScheduler {
+    static final ScheduledExecutorService SHARED = create();
+
+    private DefaultScheduler() {
+    }
+
+    private static ScheduledExecutorService create() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "hydrafp-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -2,6 +2,7 @@ package hydrafp.io.core.effect;
 
 import hydrafp.io.core.adt.Try;
 
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -12,4 +13,9 @@ public interface Effect<A> {
     CompletableFuture<A> runAsync(Runtime runtime);
     A unsafeRunSync(Runtime runtime);
     Try<A> attempt(Runtime runtime);
-}
\ No newline at end of file
+
+    default Effect<A> named(String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        return new IOEffectImpl<>(new NamedEffect<>(name, this));
+    }
+}
@@ -0,0 +1,19 @@
+package hydrafp.io.core.effect;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("hydrafp.Effect")
+@Label("Effect")
+@Category("HydraFP")
+@Description("Execution of an effect named with Effect.named")
+final class EffectEvent extends Event {
+    @Label("Name")
+    String name;
+
+    @Label("Failed")
+    boolean failed;
+}
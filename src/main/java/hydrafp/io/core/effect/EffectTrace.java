@@ -0,0 +1,22 @@
+package hydrafp.io.core.effect;
+
+public final class EffectTrace extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    EffectTrace(StackTraceElement[] sites) {
+        super("Effect trace (most recent node first)", null, false, true);
+        setStackTrace(sites);
+    }
+
+    /**
+     * Skips capturing the current stack: the trace of an EffectTrace is the recorded call sites.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    public StackTraceElement[] sites() {
+        return getStackTrace();
+    }
+}
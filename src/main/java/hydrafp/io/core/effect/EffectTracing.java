@@ -0,0 +1,129 @@
+package hydrafp.io.core.effect;
+
+import hydrafp.io.core.adt.StacklessException;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Records where map/flatMap/recover nodes were built and attaches the most recently executed ones
+ * to failures as an {@link EffectTrace}. Executed nodes go into a per-thread ring that restarts with
+ * each outermost traced run. In CACHED mode the call site is captured once per lambda class, in FULL
+ * mode on every construction. The mode defaults to the hydrafp.effect.tracing system property.
+ */
+public final class EffectTracing {
+    public enum Mode { OFF, CACHED, FULL }
+
+    static final int RING_SIZE = 32;
+
+    private static final Set<String> INTERNAL = Set.of(
+            Effect.class.getName(), Effects.class.getName(), IOEffectImpl.class.getName(),
+            PureEffect.class.getName(), AsyncEffect.class.getName(), RetryEffect.class.getName(),
+            EffectTracing.class.getName());
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private static final ClassValue<StackTraceElement> SITES = new ClassValue<>() {
+        @Override
+        protected StackTraceElement computeValue(Class<?> type) {
+            return callSite();
+        }
+    };
+
+    private static final ThreadLocal<Ring> RINGS = ThreadLocal.withInitial(Ring::new);
+
+    private static volatile Mode mode = parseMode(System.getProperty("hydrafp.effect.tracing"));
+
+    private EffectTracing() {
+    }
+
+    public static Mode mode() {
+        return mode;
+    }
+
+    public static void setMode(Mode newMode) {
+        mode = Objects.requireNonNull(newMode, "mode must not be null");
+    }
+
+    /**
+     * Reads a mode name case-insensitively. A missing value means OFF, and so does an unknown one, after a
+     * warning: a typo in a system property must not fail class initialization.
+     */
+    static Mode parseMode(String value) {
+        if (value == null || value.isBlank()) {
+            return Mode.OFF;
+        }
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.getLogger(EffectTracing.class.getName()).log(System.Logger.Level.WARNING,
+                    "Unknown hydrafp.effect.tracing mode ''{0}'', tracing is off", value);
+            return Mode.OFF;
+        }
+    }
+
+    static StackTraceElement capture(Object lambda) {
+        switch (mode) {
+            case CACHED:
+                return SITES.get(lambda.getClass());
+            case FULL:
+                return callSite();
+            default:
+                return null;
+        }
+    }
+
+    static Ring enter() {
+        Ring ring = RINGS.get();
+        if (ring.depth++ == 0) {
+            ring.next = 0;
+        }
+        return ring;
+    }
+
+    private static StackTraceElement callSite() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> !isInternal(frame.getClassName()))
+                .findFirst()
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .orElse(null));
+    }
+
+    private static boolean isInternal(String className) {
+        int nested = className.indexOf('$');
+        return className.startsWith("java.")
+                || INTERNAL.contains(nested < 0 ? className : className.substring(0, nested));
+    }
+
+    static final class Ring {
+        private final StackTraceElement[] sites = new StackTraceElement[RING_SIZE];
+        private long next;
+        private int depth;
+
+        void exit(StackTraceElement site) {
+            depth--;
+            sites[(int) (next++ % RING_SIZE)] = site;
+        }
+
+        void attachTo(Throwable failure) {
+            if (failure instanceof StacklessException) {
+                return;
+            }
+            for (Throwable suppressed : failure.getSuppressed()) {
+                if (suppressed instanceof EffectTrace) {
+                    return;
+                }
+            }
+            failure.addSuppressed(new EffectTrace(snapshot()));
+        }
+
+        StackTraceElement[] snapshot() {
+            int size = (int) Math.min(next, RING_SIZE);
+            StackTraceElement[] newestFirst = new StackTraceElement[size];
+            for (int i = 0; i < size; i++) {
+                newestFirst[i] = sites[(int) ((next - 1 - i) % RING_SIZE)];
+            }
+            return newestFirst;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package hydrafp.io.core.effect;
 import hydrafp.io.core.adt.Either;
 import hydrafp.io.core.adt.Try;
 
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -71,6 +72,12 @@ public class Effects {
         });
     }
 
+    public static <A> Effect<A> retry(Effect<A> effect, Schedule schedule) {
+        Objects.requireNonNull(effect, "effect must not be null");
+        Objects.requireNonNull(schedule, "schedule must not be null");
+        return new RetryEffect<>(effect, schedule);
+    }
+
     public static <A> Effect<A> memoize(Effect<A> effect) {
         return new IOEffectImpl<>(new Function<Runtime, Try<A>>() {
             private volatile Try<A> result = null;
@@ -9,54 +9,85 @@ import java.util.function.Function;
 
 class IOEffectImpl<A> implements IOEffect<A> {
     private final Function<Runtime, Try<A>> io;
+    private final StackTraceElement site;
 
     IOEffectImpl(Function<Runtime, Try<A>> io) {
+        this(io, null);
+    }
+
+    private IOEffectImpl(Function<Runtime, Try<A>> io, StackTraceElement site) {
         this.io = io;
+        this.site = site;
     }
 
     @Override
     public <B> Effect<B> map(Function<? super A, ? extends B> mapper) {
-        return new IOEffectImpl<>(runtime -> io.apply(runtime).map(mapper));
+        return new IOEffectImpl<>(runtime -> run(runtime).map(mapper), EffectTracing.capture(mapper));
     }
 
     @Override
     public <B> Effect<B> flatMap(Function<? super A, ? extends Effect<B>> mapper) {
+        // The inner effect runs through its own runAsync, so a nested retry waits on the scheduler, not a worker.
+        return new AsyncEffect<>(bind(mapper),
+                runtime -> runAsync(runtime).thenCompose(a -> mapper.apply(a).runAsync(runtime)));
+    }
+
+    /**
+     * The synchronous half of flatMap, also used by AsyncEffect so a chain is not wrapped twice per node.
+     */
+    <B> IOEffectImpl<B> bind(Function<? super A, ? extends Effect<B>> mapper) {
         return new IOEffectImpl<>(runtime ->
-                io.apply(runtime).flatMap(a -> {
-                    Effect<B> effect = mapper.apply(a);
-                    return ((IOEffectImpl<B>)effect).io.apply(runtime);
-                })
+                run(runtime).flatMap(a -> mapper.apply(a).attempt(runtime)),
+                EffectTracing.capture(mapper)
         );
     }
 
     @Override
     public Effect<A> recover(Function<? super Throwable, ? extends A> recovery) {
-        return new IOEffectImpl<>(runtime -> io.apply(runtime).recover(recovery));
+        return new IOEffectImpl<>(runtime -> run(runtime).recover(recovery), EffectTracing.capture(recovery));
     }
 
 
     @Override
     public CompletableFuture<A> runAsync(Runtime runtime) {
-        return CompletableFuture.supplyAsync(() -> io.apply(runtime).get(), runtime.getExecutor());
+        return CompletableFuture.supplyAsync(() -> run(runtime).get(), runtime.getExecutor());
     }
 
     @Override
     public A unsafeRunSync(Runtime runtime) {
-        return io.apply(runtime).get();
+        return run(runtime).get();
     }
 
     @Override
     public Try<A> attempt(Runtime runtime) {
-        return io.apply(runtime);
+        return run(runtime);
     }
 
     @Override
     public Either<Throwable, A> toEither(Runtime runtime) {
-        return io.apply(runtime).toEither(Function.identity());
+        return run(runtime).toEither(Function.identity());
     }
 
     @Override
     public Option<A> toOption(Runtime runtime) {
-        return io.apply(runtime).toOption();
+        return run(runtime).toOption();
+    }
+
+    private Try<A> run(Runtime runtime) {
+        runtime.instrumentation().onStep();
+        if (site == null) {
+            return io.apply(runtime);
+        }
+        EffectTracing.Ring ring = EffectTracing.enter();
+        Try<A> result;
+        try {
+            result = io.apply(runtime);
+        } finally {
+            ring.exit(site);
+        }
+        if (result.isFailure()) {
+            ring.attachTo(result.getFailure());
+        }
+        return result;
     }
 }
@@ -0,0 +1,12 @@
+package hydrafp.io.core.effect;
+
+public interface Instrumentation {
+    Instrumentation NOOP = new Instrumentation() {
+    };
+
+    default void onStep() {
+    }
+
+    default void onSpan(String name, long durationNanos, boolean failed) {
+    }
+}
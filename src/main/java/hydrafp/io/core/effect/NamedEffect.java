@@ -0,0 +1,31 @@
+package hydrafp.io.core.effect;
+
+import hydrafp.io.core.adt.Try;
+
+import java.util.function.Function;
+
+final class NamedEffect<A> implements Function<Runtime, Try<A>> {
+    private final String name;
+    private final Effect<A> effect;
+
+    NamedEffect(String name, Effect<A> effect) {
+        this.name = name;
+        this.effect = effect;
+    }
+
+    @Override
+    public Try<A> apply(Runtime runtime) {
+        EffectEvent event = new EffectEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Try<A> result = effect.attempt(runtime);
+        runtime.instrumentation().onSpan(name, System.nanoTime() - start, result.isFailure());
+        event.end();
+        if (event.shouldCommit()) {
+            event.name = name;
+            event.failed = result.isFailure();
+            event.commit();
+        }
+        return result;
+    }
+}
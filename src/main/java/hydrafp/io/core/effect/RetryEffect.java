@@ -0,0 +1,128 @@
+package hydrafp.io.core.effect;
+
+import hydrafp.io.core.adt.Either;
+import hydrafp.io.core.adt.Option;
+import hydrafp.io.core.adt.Try;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Reruns an effect according to a {@link Schedule}. Asynchronous runs hold no thread while waiting:
+ * the runtime's scheduler fires after each delay and the next attempt is submitted to its executor.
+ * Synchronous runs necessarily wait on the calling thread. Composed effects keep both behaviours.
+ */
+final class RetryEffect<A> implements IOEffect<A> {
+    private final Effect<A> effect;
+    private final Schedule schedule;
+
+    RetryEffect(Effect<A> effect, Schedule schedule) {
+        this.effect = effect;
+        this.schedule = schedule;
+    }
+
+    @Override
+    public <B> Effect<B> map(Function<? super A, ? extends B> mapper) {
+        return composable().map(mapper);
+    }
+
+    @Override
+    public <B> Effect<B> flatMap(Function<? super A, ? extends Effect<B>> mapper) {
+        return composable().flatMap(mapper);
+    }
+
+    @Override
+    public Effect<A> recover(Function<? super Throwable, ? extends A> recovery) {
+        return composable().recover(recovery);
+    }
+
+    private Effect<A> composable() {
+        return new AsyncEffect<>(new IOEffectImpl<>(this::attempt), this::runAsync);
+    }
+
+    @Override
+    public CompletableFuture<A> runAsync(Runtime runtime) {
+        CompletableFuture<A> promise = new CompletableFuture<>();
+        submit(runtime, promise, System.nanoTime(), 1);
+        return promise;
+    }
+
+    private void submit(Runtime runtime, CompletableFuture<A> promise, long start, int retry) {
+        try {
+            runtime.getExecutor().execute(() -> attemptAsync(runtime, promise, start, retry));
+        } catch (RejectedExecutionException e) {
+            promise.completeExceptionally(e);
+        }
+    }
+
+    private void attemptAsync(Runtime runtime, CompletableFuture<A> promise, long start, int retry) {
+        if (promise.isDone()) {
+            return;
+        }
+        try {
+            Try<A> result = effect.attempt(runtime);
+            if (result.isSuccess()) {
+                promise.complete(result.get());
+                return;
+            }
+            long delay = schedule.delayNanos(retry, System.nanoTime() - start);
+            if (delay < 0) {
+                promise.completeExceptionally(result.getFailure());
+            } else if (delay == 0) {
+                submit(runtime, promise, start, retry + 1);
+            } else {
+                runtime.getScheduler().schedule(() -> submit(runtime, promise, start, retry + 1),
+                        delay, TimeUnit.NANOSECONDS);
+            }
+        } catch (Throwable t) {
+            promise.completeExceptionally(t);
+        }
+    }
+
+    @Override
+    public A unsafeRunSync(Runtime runtime) {
+        return attempt(runtime).get();
+    }
+
+    @Override
+    public Try<A> attempt(Runtime runtime) {
+        long start = System.nanoTime();
+        for (int retry = 1; ; retry++) {
+            Try<A> result = effect.attempt(runtime);
+            if (result.isSuccess()) {
+                return result;
+            }
+            long delay = schedule.delayNanos(retry, System.nanoTime() - start);
+            if (delay < 0) {
+                return result;
+            }
+            if (!pause(delay)) {
+                return Try.failure(new InterruptedException("Interrupted while waiting to retry"));
+            }
+        }
+    }
+
+    private static boolean pause(long delayNanos) {
+        long deadline = System.nanoTime() + delayNanos;
+        for (long remaining = delayNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Either<Throwable, A> toEither(Runtime runtime) {
+        return attempt(runtime).toEither(Function.identity());
+    }
+
+    @Override
+    public Option<A> toOption(Runtime runtime) {
+        return attempt(runtime).toOption();
+    }
+}
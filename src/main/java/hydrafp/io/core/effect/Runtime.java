@@ -1,7 +1,16 @@
 package hydrafp.io.core.effect;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
-interface Runtime {
-    java.util.concurrent.ExecutorService getExecutor();
+public interface Runtime {
+    ExecutorService getExecutor();
+
+    default ScheduledExecutorService getScheduler() {
+        return DefaultScheduler.SHARED;
+    }
+
+    default Instrumentation instrumentation() {
+        return Instrumentation.NOOP;
+    }
 }
@@ -0,0 +1,47 @@
+package hydrafp.io.core.effect;
+
+import hydrafp.io.core.adt.Option;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class RuntimeMetrics implements Instrumentation {
+    private final LongAdder steps = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final ConcurrentMap<String, LatencyHistogram> spans = new ConcurrentHashMap<>();
+
+    @Override
+    public void onStep() {
+        steps.increment();
+    }
+
+    @Override
+    public void onSpan(String name, long durationNanos, boolean failed) {
+        LatencyHistogram histogram = spans.get(name);
+        if (histogram == null) {
+            histogram = spans.computeIfAbsent(name, ignored -> new LatencyHistogram());
+        }
+        histogram.record(durationNanos);
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    public long steps() {
+        return steps.sum();
+    }
+
+    public long failedSpans() {
+        return failures.sum();
+    }
+
+    public Set<String> spanNames() {
+        return Set.copyOf(spans.keySet());
+    }
+
+    public Option<LatencyHistogram> latency(String name) {
+        return Option.of(spans.get(name));
+    }
+}
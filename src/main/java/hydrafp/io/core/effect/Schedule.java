@@ -0,0 +1,114 @@
+package hydrafp.io.core.effect;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable retry policy: how long to wait before each retry and when to give up.
+ * Delays grow by a constant factor from a base delay, may be capped and jittered, and retrying
+ * stops after a number of retries or once the next attempt would start past a total time budget.
+ */
+public final class Schedule {
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final long baseNanos;
+    private final double factor;
+    private final long capNanos;
+    private final boolean jittered;
+    private final int maxRetries;
+    private final long budgetNanos;
+
+    private Schedule(long baseNanos, double factor, long capNanos, boolean jittered, int maxRetries, long budgetNanos) {
+        this.baseNanos = baseNanos;
+        this.factor = factor;
+        this.capNanos = capNanos;
+        this.jittered = jittered;
+        this.maxRetries = maxRetries;
+        this.budgetNanos = budgetNanos;
+    }
+
+    public static Schedule recurs(int retries) {
+        return new Schedule(0, 1.0, UNBOUNDED, false, requireNonNegative(retries), UNBOUNDED);
+    }
+
+    /**
+     * Waits the same delay before every retry. Unbounded: it retries forever unless limited with
+     * {@link #maxRetries(int)} or {@link #upTo(Duration)}.
+     */
+    public static Schedule fixed(Duration delay) {
+        return new Schedule(nanos(delay, "delay"), 1.0, UNBOUNDED, false, Integer.MAX_VALUE, UNBOUNDED);
+    }
+
+    /**
+     * Doubles the delay after every retry, starting from {@code base}. Unbounded like {@link #fixed(Duration)}:
+     * it retries forever unless limited with {@link #maxRetries(int)} or {@link #upTo(Duration)}.
+     */
+    public static Schedule exponential(Duration base) {
+        return exponential(base, 2.0);
+    }
+
+    /**
+     * Multiplies the delay by {@code factor} after every retry. Unbounded, like {@link #exponential(Duration)}.
+     */
+    public static Schedule exponential(Duration base, double factor) {
+        if (!(factor >= 1.0)) {
+            throw new IllegalArgumentException("factor must be at least 1, was " + factor);
+        }
+        return new Schedule(nanos(base, "base"), factor, UNBOUNDED, false, Integer.MAX_VALUE, UNBOUNDED);
+    }
+
+    /**
+     * Randomizes each delay uniformly between half and all of its value, so clients that failed
+     * together do not retry in lockstep.
+     */
+    public Schedule jittered() {
+        return new Schedule(baseNanos, factor, capNanos, true, maxRetries, budgetNanos);
+    }
+
+    public Schedule capped(Duration max) {
+        return new Schedule(baseNanos, factor, nanos(max, "max"), jittered, maxRetries, budgetNanos);
+    }
+
+    public Schedule maxRetries(int retries) {
+        return new Schedule(baseNanos, factor, capNanos, jittered, requireNonNegative(retries), budgetNanos);
+    }
+
+    public Schedule upTo(Duration total) {
+        return new Schedule(baseNanos, factor, capNanos, jittered, maxRetries, nanos(total, "total"));
+    }
+
+    /**
+     * Returns the delay before the given retry, counting from 1, or -1 if no further retry should be made.
+     */
+    long delayNanos(int retry, long elapsedNanos) {
+        if (retry > maxRetries) {
+            return -1;
+        }
+        double grown = baseNanos * Math.pow(factor, retry - 1);
+        long delay = grown >= capNanos ? capNanos : (long) grown;
+        if (jittered && delay > 0) {
+            long half = delay / 2;
+            delay = half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+        }
+        if (budgetNanos != UNBOUNDED && delay > budgetNanos - elapsedNanos) {
+            return -1;
+        }
+        return delay;
+    }
+
+    private static long nanos(Duration duration, String name) {
+        Objects.requireNonNull(duration, name + " must not be null");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must not be negative, was " + duration);
+        }
+        return duration.compareTo(Duration.ofNanos(UNBOUNDED)) >= 0 ? UNBOUNDED : duration.toNanos();
+    }
+
+    private static int requireNonNegative(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException("retries must not be negative, was " + retries);
+        }
+        return retries;
+    }
+}
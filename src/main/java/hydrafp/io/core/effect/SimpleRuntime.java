@@ -1,18 +1,44 @@
 package hydrafp.io.core.effect;
 
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class SimpleRuntime implements Runtime {
-    private final ExecutorService executor;
+    private final ThreadPoolExecutor executor;
+    private final Instrumentation instrumentation;
+    private final Set<Thread> running = ConcurrentHashMap.newKeySet();
 
     public SimpleRuntime() {
-        int threadPoolSize = java.lang.Runtime.getRuntime().availableProcessors();
-        this.executor = Executors.newFixedThreadPool(threadPoolSize);
+        this(Instrumentation.NOOP);
+    }
+
+    public SimpleRuntime(Instrumentation instrumentation) {
+        this(java.lang.Runtime.getRuntime().availableProcessors(), instrumentation);
     }
 
     SimpleRuntime(int threadPoolSize) {
-        this.executor = Executors.newFixedThreadPool(threadPoolSize);
+        this(threadPoolSize, Instrumentation.NOOP);
+    }
+
+    SimpleRuntime(int threadPoolSize, Instrumentation instrumentation) {
+        this.instrumentation = Objects.requireNonNull(instrumentation, "instrumentation must not be null");
+        this.executor = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>()) {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable task) {
+                running.add(thread);
+            }
+
+            @Override
+            protected void afterExecute(Runnable task, Throwable error) {
+                running.remove(Thread.currentThread());
+            }
+        };
     }
 
     @Override
@@ -20,6 +46,29 @@ public class SimpleRuntime implements Runtime {
         return executor;
     }
 
+    @Override
+    public Instrumentation instrumentation() {
+        return instrumentation;
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int activeThreads() {
+        return running.size();
+    }
+
+    public int blockedThreads() {
+        int blocked = 0;
+        for (Thread thread : running) {
+            if (thread.getState() != Thread.State.RUNNABLE) {
+                blocked++;
+            }
+        }
+        return blocked;
+    }
+
     public void shutdown() {
         executor.shutdown();
     }
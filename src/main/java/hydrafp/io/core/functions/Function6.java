@@ -0,0 +1,14 @@
+package hydrafp.io.core.functions;
+
+@FunctionalInterface
+public interface Function6<A, B, C, D, E, F, R> {
+    R apply(A a, B b, C c, D d, E e, F f);
+
+    default <V> Function6<A, B, C, D, E, F, V> andThen(Function1<? super R, ? extends V> after) {
+        return (a, b, c, d, e, f) -> after.apply(apply(a, b, c, d, e, f));
+    }
+
+    default Function5<B, C, D, E, F, R> partial(A a) {
+        return (b, c, d, e, f) -> apply(a, b, c, d, e, f);
+    }
+}
@@ -0,0 +1,14 @@
+package hydrafp.io.core.functions;
+
+@FunctionalInterface
+public interface Function7<A, B, C, D, E, F, G, R> {
+    R apply(A a, B b, C c, D d, E e, F f, G g);
+
+    default <V> Function7<A, B, C, D, E, F, G, V> andThen(Function1<? super R, ? extends V> after) {
+        return (a, b, c, d, e, f, g) -> after.apply(apply(a, b, c, d, e, f, g));
+    }
+
+    default Function6<B, C, D, E, F, G, R> partial(A a) {
+        return (b, c, d, e, f, g) -> apply(a, b, c, d, e, f, g);
+    }
+}
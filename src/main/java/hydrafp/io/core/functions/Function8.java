@@ -0,0 +1,14 @@
+package hydrafp.io.core.functions;
+
+@FunctionalInterface
+public interface Function8<A, B, C, D, E, F, G, H, R> {
+    R apply(A a, B b, C c, D d, E e, F f, G g, H h);
+
+    default <V> Function8<A, B, C, D, E, F, G, H, V> andThen(Function1<? super R, ? extends V> after) {
+        return (a, b, c, d, e, f, g, h) -> after.apply(apply(a, b, c, d, e, f, g, h));
+    }
+
+    default Function7<B, C, D, E, F, G, H, R> partial(A a) {
+        return (b, c, d, e, f, g, h) -> apply(a, b, c, d, e, f, g, h);
+    }
+}
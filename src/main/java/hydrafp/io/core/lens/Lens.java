@@ -1,18 +1,29 @@
 package hydrafp.io.core.lens;
 
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 public class Lens<S, A> {
     private final Function<S, A> getter;
-    private final Function<S, Function<A, S>> setter;
+    private final BiFunction<S, A, S> setter;
+    private final BiFunction<S, Function<A, A>, S> modifier;
 
-    private Lens(Function<S, A> getter, Function<S, Function<A, S>> setter) {
+    private Lens(Function<S, A> getter, BiFunction<S, A, S> setter, BiFunction<S, Function<A, A>, S> modifier) {
         this.getter = getter;
         this.setter = setter;
+        this.modifier = modifier;
     }
 
     public static <S, A> Lens<S, A> of(Function<S, A> getter, Function<S, Function<A, S>> setter) {
-        return new Lens<>(getter, setter);
+        return of(getter, (BiFunction<S, A, S>) (s, a) -> setter.apply(s).apply(a));
+    }
+
+    public static <S, A> Lens<S, A> of(Function<S, A> getter, BiFunction<S, A, S> setter) {
+        return new Lens<>(getter, setter, (s, f) -> {
+            A current = getter.apply(s);
+            A updated = f.apply(current);
+            return updated == current ? s : setter.apply(s, updated);
+        });
     }
 
     public A get(S s) {
@@ -20,17 +31,29 @@ public class Lens<S, A> {
     }
 
     public S set(S s, A a) {
-        return setter.apply(s).apply(a);
+        return setter.apply(s, a);
     }
 
     public S modify(S s, Function<A, A> f) {
-        return set(s, f.apply(get(s)));
+        return modifier.apply(s, f);
+    }
+
+    public <B> S modifyAll(S s, Traversal<A, B> each, Function<B, B> f) {
+        return modify(s, a -> each.modifyAll(a, f));
     }
 
     public <B> Lens<S, B> compose(Lens<A, B> other) {
-        return Lens.of(
-                s -> other.get(this.get(s)),
-                s -> b -> this.modify(s, a -> other.set(a, b))
+        return new Lens<>(
+                s -> other.getter.apply(getter.apply(s)),
+                (s, b) -> modifier.apply(s, a -> other.setter.apply(a, b)),
+                (s, f) -> modifier.apply(s, a -> other.modifier.apply(a, f))
+        );
+    }
+
+    public <B> Traversal<S, B> compose(Traversal<A, B> each) {
+        return Traversal.of(
+                s -> each.getAll(getter.apply(s)),
+                (s, f) -> modifier.apply(s, a -> each.modifyAll(a, f))
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package hydrafp.io.core.lens;
+
+import hydrafp.io.core.collections.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public final class Traversal<S, A> {
+    private final Function<S, List<A>> getter;
+    private final BiFunction<S, Function<A, A>, S> modifier;
+
+    private Traversal(Function<S, List<A>> getter, BiFunction<S, Function<A, A>, S> modifier) {
+        this.getter = getter;
+        this.modifier = modifier;
+    }
+
+    public static <S, A> Traversal<S, A> of(Function<S, List<A>> getter, BiFunction<S, Function<A, A>, S> modifier) {
+        return new Traversal<>(getter, modifier);
+    }
+
+    public static <A> Traversal<List<A>, A> list() {
+        return new Traversal<>(Collections::unmodifiableList, Traversal::modifyList);
+    }
+
+    public static <A> Traversal<ImmutableList<A>, A> immutableList() {
+        return new Traversal<>(Traversal::toList, Traversal::modifyImmutableList);
+    }
+
+    public List<A> getAll(S s) {
+        return getter.apply(s);
+    }
+
+    public S modifyAll(S s, Function<A, A> f) {
+        return modifier.apply(s, f);
+    }
+
+    public S setAll(S s, A a) {
+        return modifier.apply(s, ignored -> a);
+    }
+
+    public <B> Traversal<S, B> compose(Lens<A, B> lens) {
+        return new Traversal<>(
+                s -> {
+                    List<A> all = getter.apply(s);
+                    List<B> focused = new ArrayList<>(all.size());
+                    for (A a : all) {
+                        focused.add(lens.get(a));
+                    }
+                    return focused;
+                },
+                (s, f) -> modifier.apply(s, a -> lens.modify(a, f))
+        );
+    }
+
+    public <B> Traversal<S, B> compose(Traversal<A, B> other) {
+        return new Traversal<>(
+                s -> {
+                    List<B> focused = new ArrayList<>();
+                    for (A a : getter.apply(s)) {
+                        focused.addAll(other.getAll(a));
+                    }
+                    return focused;
+                },
+                (s, f) -> modifier.apply(s, a -> other.modifyAll(a, f))
+        );
+    }
+
+    private static <A> List<A> modifyList(List<A> list, Function<A, A> f) {
+        List<A> copy = null;
+        for (int i = 0; i < list.size(); i++) {
+            A current = list.get(i);
+            A updated = f.apply(current);
+            if (copy == null && updated != current) {
+                copy = new ArrayList<>(list.size());
+                copy.addAll(list.subList(0, i));
+            }
+            if (copy != null) {
+                copy.add(updated);
+            }
+        }
+        return copy == null ? list : Collections.unmodifiableList(copy);
+    }
+
+    private static <A> List<A> toList(ImmutableList<A> list) {
+        List<A> values = new ArrayList<>(list.size());
+        for (ImmutableList<A> rest = list; !rest.isEmpty(); rest = rest.tail()) {
+            values.add(rest.head().get());
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> ImmutableList<A> modifyImmutableList(ImmutableList<A> list, Function<A, A> f) {
+        int size = list.size();
+        Object[] updated = new Object[size];
+        ImmutableList<A>[] suffixes = (ImmutableList<A>[]) new ImmutableList<?>[size + 1];
+        int lastChanged = -1;
+        ImmutableList<A> rest = list;
+        for (int i = 0; i < size; i++) {
+            suffixes[i] = rest;
+            A current = rest.head().get();
+            updated[i] = f.apply(current);
+            if (updated[i] != current) {
+                lastChanged = i;
+            }
+            rest = rest.tail();
+        }
+        suffixes[size] = rest;
+        if (lastChanged < 0) {
+            return list;
+        }
+        ImmutableList<A> result = suffixes[lastChanged + 1];
+        for (int i = lastChanged; i >= 0; i--) {
+            result = result.cons((A) updated[i]);
+        }
+        return result;
+    }
+}
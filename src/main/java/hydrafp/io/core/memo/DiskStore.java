@@ -0,0 +1,289 @@
+package hydrafp.io.core.memo;
+
+import hydrafp.io.core.adt.Option;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only, file-backed second tier for {@link Memoize}.
+ * Each entry is stored as {@code [keyLength][valueLength][key][value]}; the key index is rebuilt
+ * from a read-only mapping of the file on open, values are read on demand.
+ */
+public final class DiskStore<K, V> implements Store<K, V> {
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final FileChannel channel;
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final Map<K, Slot> index = new ConcurrentHashMap<>();
+    private final Map<K, V> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService writer;
+    private long end;
+    private volatile boolean closed;
+    private volatile RuntimeException flushFailure;
+
+    private DiskStore(Builder<K, V> builder) throws IOException {
+        this.channel = FileChannel.open(builder.path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.keySerializer = builder.keySerializer;
+        this.valueSerializer = builder.valueSerializer;
+        this.end = load();
+        channel.truncate(end);
+        if (builder.writeBehind == null) {
+            this.writer = null;
+        } else {
+            this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "hydrafp-memo-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = builder.writeBehind.toNanos();
+            writer.scheduleWithFixedDelay(this::flushBehind, interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public static <K, V> Builder<K, V> builder(Path path, Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        return new Builder<>(path, keySerializer, valueSerializer);
+    }
+
+    public static <K, V> DiskStore<K, V> open(Path path, Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        return builder(path, keySerializer, valueSerializer).open();
+    }
+
+    @Override
+    public Option<V> get(K key) {
+        V buffered = pending.get(key);
+        if (buffered != null) {
+            return Option.some(buffered);
+        }
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return Option.none();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(slot.length);
+        try {
+            long position = slot.offset;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    return Option.none();
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Option.of(valueSerializer.deserialize(buffer.array()));
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        if (index.containsKey(key)) {
+            return;
+        }
+        if (writer == null) {
+            append(key, value);
+        } else {
+            pending.putIfAbsent(key, value);
+        }
+    }
+
+    /**
+     * Writes every buffered entry, then forces the file. A failing entry does not stop the others:
+     * the first failure is rethrown once all entries were tried, with the rest attached as suppressed.
+     * Entries whose serializer fails are dropped, since they can never be written; entries that hit
+     * an I/O error stay buffered and are retried on the next flush.
+     */
+    @Override
+    public void flush() {
+        if (closed && !pending.isEmpty()) {
+            throw new IllegalStateException("DiskStore is closed");
+        }
+        RuntimeException failure = null;
+        for (Map.Entry<K, V> entry : pending.entrySet()) {
+            try {
+                append(entry.getKey(), entry.getValue());
+                pending.remove(entry.getKey(), entry.getValue());
+            } catch (UncheckedIOException e) {
+                failure = merge(failure, e);
+            } catch (RuntimeException e) {
+                pending.remove(entry.getKey(), entry.getValue());
+                failure = merge(failure, e);
+            }
+        }
+        synchronized (this) {
+            if (!closed) {
+                try {
+                    channel.force(false);
+                } catch (IOException e) {
+                    failure = merge(failure, new UncheckedIOException(e));
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static RuntimeException merge(RuntimeException first, RuntimeException next) {
+        if (first == null) {
+            return next;
+        }
+        first.addSuppressed(next);
+        return first;
+    }
+
+    /**
+     * Returns the most recent failure of a background flush, if any.
+     */
+    public Option<RuntimeException> lastFlushFailure() {
+        return Option.of(flushFailure);
+    }
+
+    private void flushBehind() {
+        // An exception escaping a scheduled task would cancel all later runs, so it is recorded instead.
+        try {
+            flush();
+            flushFailure = null;
+        } catch (RuntimeException e) {
+            flushFailure = e;
+        }
+    }
+
+    public int size() {
+        return index.size() + pending.size();
+    }
+
+    @Override
+    public void close() {
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flush();
+        } finally {
+            synchronized (this) {
+                closed = true;
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private synchronized void append(K key, V value) {
+        if (closed) {
+            throw new IllegalStateException("DiskStore is closed");
+        }
+        if (index.containsKey(key)) {
+            return;
+        }
+        byte[] keyBytes = keySerializer.serialize(key);
+        byte[] valueBytes = valueSerializer.serialize(value);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + keyBytes.length + valueBytes.length)
+                .putInt(keyBytes.length)
+                .putInt(valueBytes.length)
+                .put(keyBytes)
+                .put(valueBytes)
+                .flip();
+        try {
+            long position = end;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        index.put(key, new Slot(end + HEADER_SIZE + keyBytes.length, valueBytes.length));
+        end += buffer.limit();
+    }
+
+    private long load() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return 0;
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        long position = 0;
+        while (mapped.remaining() >= HEADER_SIZE) {
+            int keyLength = mapped.getInt();
+            int valueLength = mapped.getInt();
+            if (keyLength < 0 || valueLength < 0 || mapped.remaining() < (long) keyLength + valueLength) {
+                break; // torn write at the tail, drop it
+            }
+            byte[] keyBytes = new byte[keyLength];
+            mapped.get(keyBytes);
+            index.put(keySerializer.deserialize(keyBytes), new Slot(position + HEADER_SIZE + keyLength, valueLength));
+            mapped.position(mapped.position() + valueLength);
+            position = mapped.position();
+        }
+        return position;
+    }
+
+    private static final class Slot {
+        final long offset;
+        final int length;
+
+        Slot(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    public static final class Builder<K, V> {
+        private final Path path;
+        private final Serializer<K> keySerializer;
+        private final Serializer<V> valueSerializer;
+        private Duration writeBehind;
+
+        private Builder(Path path, Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+            this.path = Objects.requireNonNull(path, "path must not be null");
+            this.keySerializer = Objects.requireNonNull(keySerializer, "keySerializer must not be null");
+            this.valueSerializer = Objects.requireNonNull(valueSerializer, "valueSerializer must not be null");
+        }
+
+        public Builder<K, V> writeBehind(Duration interval) {
+            Objects.requireNonNull(interval, "interval must not be null");
+            if (interval.isNegative() || interval.isZero()) {
+                throw new IllegalArgumentException("interval must be positive");
+            }
+            this.writeBehind = interval;
+            return this;
+        }
+
+        public Builder<K, V> writeThrough() {
+            this.writeBehind = null;
+            return this;
+        }
+
+        public DiskStore<K, V> open() {
+            try {
+                return new DiskStore<>(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
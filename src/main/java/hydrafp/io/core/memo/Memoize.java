@@ -12,6 +12,17 @@ public class Memoize {
         return input -> cache.computeIfAbsent(input, function);
     }
 
+    public static <T, R> Function<T, R> memoize(Function<T, R> function, Store<T, R> secondLevel) {
+        Map<T, R> cache = new ConcurrentHashMap<>();
+        return input -> cache.computeIfAbsent(input, key -> secondLevel.get(key).getOrElse(() -> {
+            R value = function.apply(key);
+            if (value != null) {
+                secondLevel.put(key, value);
+            }
+            return value;
+        }));
+    }
+
     public static <T, U, R> BiFunction<T, U, R> memoize(BiFunction<T, U, R> function) {
         Map<Pair<T, U>, R> cache = new ConcurrentHashMap<>();
         return (t, u) -> cache.computeIfAbsent(Pair.of(t, u), pair -> function.apply(pair.first(), pair.second()));
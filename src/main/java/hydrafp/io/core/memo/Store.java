@@ -0,0 +1,14 @@
+package hydrafp.io.core.memo;
+
+import hydrafp.io.core.adt.Option;
+
+public interface Store<K, V> extends AutoCloseable {
+    Option<V> get(K key);
+
+    void put(K key, V value);
+
+    void flush();
+
+    @Override
+    void close();
+}
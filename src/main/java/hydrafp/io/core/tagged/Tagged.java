@@ -11,6 +11,9 @@ import java.util.function.Supplier;
 import java.util.function.Consumer;
 
 public final class Tagged<T, V> {
+    private static final int INTERN_SLOTS = 4096;
+    private static final Tagged<?, ?>[] INTERNED = new Tagged<?, ?>[INTERN_SLOTS];
+
     private final V value;
 
     private Tagged(V value) {
@@ -22,6 +25,23 @@ public final class Tagged<T, V> {
         return new Tagged<>(value);
     }
 
+    /**
+     * Returns a shared instance for values that repeat often, such as IDs read from a table.
+     * The table is fixed-size and direct-mapped, so a colliding value simply replaces the previous one.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> Tagged<T, V> intern(V value) {
+        int hash = Objects.requireNonNull(value, "Value cannot be null").hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (INTERN_SLOTS - 1);
+        Tagged<?, ?> cached = INTERNED[slot];
+        if (cached != null && cached.value.equals(value)) {
+            return (Tagged<T, V>) cached;
+        }
+        Tagged<T, V> tagged = new Tagged<>(value);
+        INTERNED[slot] = tagged;
+        return tagged;
+    }
+
     public static <T, V> Option<Tagged<T, V>> fromOption(Option<V> option) {
         return option.map(Tagged::of);
     }
@@ -38,12 +58,15 @@ public final class Tagged<T, V> {
         return value;
     }
 
+    @SuppressWarnings("unchecked")
     public <R> Tagged<T, R> map(Function<? super V, ? extends R> mapper) {
-        return Tagged.of(mapper.apply(value));
+        R result = mapper.apply(value);
+        return result == value ? (Tagged<T, R>) this : Tagged.of(result);
     }
 
+    @SuppressWarnings("unchecked")
     public <R> Tagged<R, V> retag() {
-        return Tagged.of(value);
+        return (Tagged<R, V>) this;
     }
 
     public <R> R fold(Function<? super V, ? extends R> mapper) {
@@ -118,7 +141,7 @@ public final class Tagged<T, V> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return 31 + value.hashCode();
     }
 
     @Override
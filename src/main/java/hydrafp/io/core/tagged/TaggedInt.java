@@ -0,0 +1,85 @@
+package hydrafp.io.core.tagged;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A tagged {@code int} stored unboxed. Instances have no identity semantics: equality, hashing and
+ * ordering depend only on the value, so the class can become a value class without changing callers.
+ */
+public final class TaggedInt<T> implements Comparable<TaggedInt<T>> {
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+    private static final TaggedInt<?>[] CACHE = new TaggedInt<?>[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new TaggedInt<>(LOW + i);
+        }
+    }
+
+    private final int value;
+
+    private TaggedInt(int value) {
+        this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> TaggedInt<T> of(int value) {
+        return value >= LOW && value <= HIGH ? (TaggedInt<T>) CACHE[value - LOW] : new TaggedInt<>(value);
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public TaggedInt<T> map(IntUnaryOperator mapper) {
+        int result = mapper.applyAsInt(value);
+        return result == value ? this : of(result);
+    }
+
+    public <R> Tagged<T, R> mapToObj(IntFunction<? extends R> mapper) {
+        return Tagged.of(mapper.apply(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> TaggedInt<R> retag() {
+        return (TaggedInt<R>) this;
+    }
+
+    public boolean test(IntPredicate predicate) {
+        return predicate.test(value);
+    }
+
+    public TaggedInt<T> zip(TaggedInt<T> other, IntBinaryOperator zipper) {
+        return of(zipper.applyAsInt(value, other.value));
+    }
+
+    public Tagged<T, Integer> boxed() {
+        return Tagged.of(value);
+    }
+
+    @Override
+    public int compareTo(TaggedInt<T> other) {
+        return Integer.compare(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TaggedInt)) return false;
+        return value == ((TaggedInt<?>) o).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "TaggedInt[" + value + "]";
+    }
+}
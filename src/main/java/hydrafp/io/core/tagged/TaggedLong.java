@@ -0,0 +1,85 @@
+package hydrafp.io.core.tagged;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A tagged {@code long} stored unboxed. Instances have no identity semantics: equality, hashing and
+ * ordering depend only on the value, so the class can become a value class without changing callers.
+ */
+public final class TaggedLong<T> implements Comparable<TaggedLong<T>> {
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+    private static final TaggedLong<?>[] CACHE = new TaggedLong<?>[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new TaggedLong<>(LOW + i);
+        }
+    }
+
+    private final long value;
+
+    private TaggedLong(long value) {
+        this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> TaggedLong<T> of(long value) {
+        return value >= LOW && value <= HIGH ? (TaggedLong<T>) CACHE[(int) value - LOW] : new TaggedLong<>(value);
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public TaggedLong<T> map(LongUnaryOperator mapper) {
+        long result = mapper.applyAsLong(value);
+        return result == value ? this : of(result);
+    }
+
+    public <R> Tagged<T, R> mapToObj(LongFunction<? extends R> mapper) {
+        return Tagged.of(mapper.apply(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> TaggedLong<R> retag() {
+        return (TaggedLong<R>) this;
+    }
+
+    public boolean test(LongPredicate predicate) {
+        return predicate.test(value);
+    }
+
+    public TaggedLong<T> zip(TaggedLong<T> other, LongBinaryOperator zipper) {
+        return of(zipper.applyAsLong(value, other.value));
+    }
+
+    public Tagged<T, Long> boxed() {
+        return Tagged.of(value);
+    }
+
+    @Override
+    public int compareTo(TaggedLong<T> other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TaggedLong)) return false;
+        return value == ((TaggedLong<?>) o).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "TaggedLong[" + value + "]";
+    }
+}
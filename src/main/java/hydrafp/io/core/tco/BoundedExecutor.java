@@ -0,0 +1,38 @@
+package hydrafp.io.core.tco;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holder for the shared, bounded executor used by timed computations.
+ * Thread count is capped at the number of processors and the queue is bounded;
+ * submissions beyond that are rejected instead of piling up.
+ */
+final class BoundedExecutor {
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int QUEUE_CAPACITY = THREADS * 64;
+
+    static final ThreadPoolExecutor SHARED = create();
+
+    private BoundedExecutor() {
+    }
+
+    private static ThreadPoolExecutor create() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                THREADS, THREADS,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "hydrafp-timed-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,64 @@
+package hydrafp.io.core.tco;
+
+/**
+ * A cooperative cancellation signal. TailRec and StepwiseRecursion check it between steps
+ * and stop with a {@link java.util.concurrent.CancellationException} once it is cancelled.
+ */
+public final class CancellationToken {
+    private static final CancellationToken NONE = new CancellationToken();
+
+    private final CancellationToken parent;
+    private volatile boolean cancelled;
+
+    private CancellationToken() {
+        this(null);
+    }
+
+    private CancellationToken(CancellationToken parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a new token that has not been cancelled.
+     * @return A new CancellationToken.
+     */
+    public static CancellationToken create() {
+        return new CancellationToken();
+    }
+
+    /**
+     * Returns a token that is never cancelled.
+     * @return The shared uncancellable token.
+     */
+    public static CancellationToken none() {
+        return NONE;
+    }
+
+    /**
+     * Creates a token that is cancelled on its own or whenever the given parent is.
+     * @param parent The token whose cancellation also cancels the new one.
+     * @return A new CancellationToken.
+     */
+    static CancellationToken linkedTo(CancellationToken parent) {
+        return parent == NONE ? new CancellationToken() : new CancellationToken(parent);
+    }
+
+    /**
+     * Requests cancellation of every computation observing this token.
+     * @throws UnsupportedOperationException if this is the {@link #none()} token.
+     */
+    public void cancel() {
+        if (this == NONE) {
+            throw new UnsupportedOperationException("The none() token cannot be cancelled");
+        }
+        cancelled = true;
+    }
+
+    /**
+     * Checks whether cancellation has been requested.
+     * @return true if the token has been cancelled.
+     */
+    public boolean isCancelled() {
+        return cancelled || parent != null && parent.isCancelled();
+    }
+}
@@ -0,0 +1,215 @@
+package hydrafp.io.core.tco;
+
+import hydrafp.io.core.adt.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Implements a divide-and-conquer recursive computation evaluated on a ForkJoinPool.
+ * Problems above the sequential threshold are split into a left and a right half that are
+ * evaluated in parallel and combined; smaller problems fall back to a sequential computation,
+ * typically a TailRec.
+ * @param <T> The type of the computation result.
+ */
+public final class ParallelRecursion<T> implements RecursiveComputation<T> {
+    private final Task<?, T> root;
+    private final ForkJoinPool pool;
+
+    private ParallelRecursion(Task<?, T> root, ForkJoinPool pool) {
+        this.root = root;
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a new ParallelRecursion over the given problem.
+     * @param problem The initial problem to divide.
+     * @param <P> The type of the problem.
+     * @param <T> The type of the computation result.
+     * @return A ParallelRecursionBuilder to continue building the computation.
+     */
+    public static <P, T> ParallelRecursionBuilder<P, T> start(P problem) {
+        return new ParallelRecursionBuilder<>(problem);
+    }
+
+    @Override
+    public Either<Throwable, T> compute() {
+        return root.copy(CancellationToken.none()).invokeIn(pool);
+    }
+
+    @Override
+    public Either<Throwable, T> compute(CancellationToken token) {
+        return root.copy(token).invokeIn(pool);
+    }
+
+    /**
+     * The shape of a divide-and-conquer computation, shared by every task it forks.
+     * @param <P> The type of the problem.
+     * @param <T> The type of the computation result.
+     */
+    private static final class Definition<P, T> {
+        final Predicate<P> isSmall;
+        final Function<P, ? extends RecursiveComputation<T>> sequential;
+        final Function<P, P> left;
+        final Function<P, P> right;
+        final BinaryOperator<T> combine;
+
+        Definition(Predicate<P> isSmall, Function<P, ? extends RecursiveComputation<T>> sequential,
+                   Function<P, P> left, Function<P, P> right, BinaryOperator<T> combine) {
+            this.isSmall = isSmall;
+            this.sequential = sequential;
+            this.left = left;
+            this.right = right;
+            this.combine = combine;
+        }
+    }
+
+    /**
+     * A RecursiveTask solving one problem: sequentially below the threshold, by forking otherwise.
+     * All tasks of one invocation share a token linked to the caller's and the first failure: recording
+     * a failure cancels the token, so sibling subtrees that are already running stop at their next step.
+     * @param <P> The type of the problem.
+     * @param <T> The type of the computation result.
+     */
+    private static final class Task<P, T> extends RecursiveTask<Either<Throwable, T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Definition<P, T> definition;
+        private final P problem;
+        private final CancellationToken token;
+        private final AtomicReference<Throwable> failure;
+
+        Task(Definition<P, T> definition, P problem, CancellationToken token, AtomicReference<Throwable> failure) {
+            this.definition = definition;
+            this.problem = problem;
+            this.token = token;
+            this.failure = failure;
+        }
+
+        Task<P, T> copy(CancellationToken token) {
+            return new Task<>(definition, problem, CancellationToken.linkedTo(token), new AtomicReference<>());
+        }
+
+        Either<Throwable, T> invokeIn(ForkJoinPool pool) {
+            Either<Throwable, T> result = pool.invoke(this);
+            return result.isLeft() ? Either.left(failure.get()) : result;
+        }
+
+        @Override
+        protected Either<Throwable, T> compute() {
+            if (token.isCancelled()) {
+                return fail(new CancellationException("Computation was cancelled"));
+            }
+            try {
+                if (definition.isSmall.test(problem)) {
+                    Either<Throwable, T> result = definition.sequential.apply(problem).compute(token);
+                    return result.isLeft() ? fail(result.getLeft()) : result;
+                }
+                Task<P, T> left = new Task<>(definition, definition.left.apply(problem), token, failure);
+                Task<P, T> right = new Task<>(definition, definition.right.apply(problem), token, failure);
+                left.fork();
+                Either<Throwable, T> rightResult = right.compute();
+                if (rightResult.isLeft()) {
+                    left.cancel(false);
+                    return rightResult;
+                }
+                Either<Throwable, T> leftResult = left.join();
+                if (leftResult.isLeft()) {
+                    return leftResult;
+                }
+                return Either.right(definition.combine.apply(leftResult.getRight(), rightResult.getRight()));
+            } catch (Throwable t) {
+                return fail(t);
+            }
+        }
+
+        private Either<Throwable, T> fail(Throwable t) {
+            if (failure.compareAndSet(null, t)) {
+                token.cancel();
+            }
+            return Either.left(t);
+        }
+    }
+
+    /**
+     * Builder class for creating ParallelRecursion instances.
+     * @param <P> The type of the problem.
+     * @param <T> The type of the computation result.
+     */
+    public static class ParallelRecursionBuilder<P, T> {
+        private final P problem;
+        private Predicate<P> isSmall;
+        private Function<P, ? extends RecursiveComputation<T>> sequential;
+        private Function<P, P> left;
+        private Function<P, P> right;
+        private BinaryOperator<T> combine;
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        private ParallelRecursionBuilder(P problem) {
+            this.problem = problem;
+        }
+
+        /**
+         * Sets the sequential threshold.
+         * @param isSmall The predicate determining when a problem is solved without splitting.
+         * @return This builder instance.
+         */
+        public ParallelRecursionBuilder<P, T> threshold(Predicate<P> isSmall) {
+            this.isSmall = Objects.requireNonNull(isSmall, "Threshold must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the computation used for problems below the threshold.
+         * @param sequential The function producing a sequential computation, typically a TailRec.
+         * @return This builder instance.
+         */
+        public ParallelRecursionBuilder<P, T> sequential(Function<P, ? extends RecursiveComputation<T>> sequential) {
+            this.sequential = Objects.requireNonNull(sequential, "Sequential computation must not be null");
+            return this;
+        }
+
+        /**
+         * Sets how a problem above the threshold is split and how the results of its halves are combined.
+         * @param left The function producing the left sub-problem.
+         * @param right The function producing the right sub-problem.
+         * @param combine The function combining the left and right results.
+         * @return This builder instance.
+         */
+        public ParallelRecursionBuilder<P, T> fork(Function<P, P> left, Function<P, P> right, BinaryOperator<T> combine) {
+            this.left = Objects.requireNonNull(left, "Left split must not be null");
+            this.right = Objects.requireNonNull(right, "Right split must not be null");
+            this.combine = Objects.requireNonNull(combine, "Combine function must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the pool the computation runs on. Defaults to the common pool.
+         * @param pool The ForkJoinPool to use.
+         * @return This builder instance.
+         */
+        public ParallelRecursionBuilder<P, T> pool(ForkJoinPool pool) {
+            this.pool = Objects.requireNonNull(pool, "Pool must not be null");
+            return this;
+        }
+
+        /**
+         * Builds the ParallelRecursion instance.
+         * @return A new ParallelRecursion instance.
+         * @throws IllegalStateException if the threshold, sequential computation or fork is missing.
+         */
+        public ParallelRecursion<T> build() {
+            if (isSmall == null || sequential == null || combine == null) {
+                throw new IllegalStateException("threshold, sequential and fork must be set");
+            }
+            Definition<P, T> definition = new Definition<>(isSmall, sequential, left, right, combine);
+            return new ParallelRecursion<>(new Task<>(definition, problem, CancellationToken.none(), null), pool);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package hydrafp.io.core.tco;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A sampling progress hook for TailRec and StepwiseRecursion. The evaluator counts steps in a local
+ * variable and only calls into the probe when the count is a multiple of the sampling interval, so
+ * unsampled steps cost a mask test and nothing is allocated per step. The most recent samples are kept
+ * in a fixed-size ring that other threads can read, for example to export them as metrics or to spot
+ * a runaway recursion.
+ */
+public final class RecursionProbe {
+    private static final int RING_SIZE = 64;
+
+    private final long mask;
+    private final Listener listener;
+    private final long[] ringSteps = new long[RING_SIZE];
+    private final long[] ringNanos = new long[RING_SIZE];
+    private long samples;
+    private long startNanos;
+    private volatile long steps;
+    private volatile long elapsedNanos;
+    private volatile boolean running;
+
+    private RecursionProbe(long mask, Listener listener) {
+        this.mask = mask;
+        this.listener = listener;
+    }
+
+    /**
+     * Receives samples from a running computation on the evaluating thread.
+     */
+    public interface Listener {
+        /**
+         * Called every sampling interval.
+         * @param steps The number of steps evaluated so far.
+         * @param elapsedNanos The time since the computation started.
+         */
+        void onSample(long steps, long elapsedNanos);
+
+        /**
+         * Called once when the computation finishes, successfully or not.
+         * @param steps The total number of steps evaluated.
+         * @param elapsedNanos The total running time.
+         */
+        default void onComplete(long steps, long elapsedNanos) {
+        }
+    }
+
+    /**
+     * Creates a probe sampling roughly every {@code interval} steps, keeping samples in its ring only.
+     * @param interval The sampling interval, rounded up to a power of two.
+     * @return A new RecursionProbe.
+     */
+    public static RecursionProbe every(long interval) {
+        return every(interval, null);
+    }
+
+    /**
+     * Creates a probe sampling roughly every {@code interval} steps and reporting each sample to a listener.
+     * @param interval The sampling interval, rounded up to a power of two.
+     * @param listener The listener notified on every sample, or null.
+     * @return A new RecursionProbe.
+     */
+    public static RecursionProbe every(long interval, Listener listener) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Sampling interval must be positive");
+        }
+        long powerOfTwo = interval == 1 ? 1 : Long.highestOneBit(interval - 1) << 1;
+        return new RecursionProbe(powerOfTwo - 1, listener);
+    }
+
+    /**
+     * Returns the number of steps at the latest sample.
+     * @return The sampled step count.
+     */
+    public long steps() {
+        return steps;
+    }
+
+    /**
+     * Returns the elapsed time at the latest sample.
+     * @return The sampled elapsed time in nanoseconds.
+     */
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Checks whether a computation using this probe is currently running.
+     * @return true between the start and the end of a run.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the most recent samples, oldest first.
+     * @return A snapshot of up to 64 samples.
+     */
+    public synchronized List<Sample> recentSamples() {
+        int size = (int) Math.min(samples, RING_SIZE);
+        List<Sample> recent = new ArrayList<>(size);
+        for (long i = samples - size; i < samples; i++) {
+            int slot = (int) (i % RING_SIZE);
+            recent.add(new Sample(ringSteps[slot], ringNanos[slot]));
+        }
+        return recent;
+    }
+
+    boolean isDue(long step) {
+        return (step & mask) == 0;
+    }
+
+    void start() {
+        synchronized (this) {
+            samples = 0;
+        }
+        steps = 0;
+        elapsedNanos = 0;
+        startNanos = System.nanoTime();
+        running = true;
+    }
+
+    void sample(long step) {
+        long elapsed = record(step);
+        if (listener != null) {
+            listener.onSample(step, elapsed);
+        }
+    }
+
+    void finish(long step) {
+        long elapsed = record(step);
+        running = false;
+        if (listener != null) {
+            listener.onComplete(step, elapsed);
+        }
+    }
+
+    private long record(long step) {
+        long elapsed = System.nanoTime() - startNanos;
+        synchronized (this) {
+            int slot = (int) (samples++ % RING_SIZE);
+            ringSteps[slot] = step;
+            ringNanos[slot] = elapsed;
+        }
+        steps = step;
+        elapsedNanos = elapsed;
+        return elapsed;
+    }
+
+    /**
+     * A single progress sample.
+     */
+    public static final class Sample {
+        private final long steps;
+        private final long elapsedNanos;
+
+        Sample(long steps, long elapsedNanos) {
+            this.steps = steps;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * @return The number of steps evaluated when the sample was taken.
+         */
+        public long steps() {
+            return steps;
+        }
+
+        /**
+         * @return The elapsed time when the sample was taken, in nanoseconds.
+         */
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Sample)) return false;
+            Sample other = (Sample) obj;
+            return steps == other.steps && elapsedNanos == other.elapsedNanos;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(steps, elapsedNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "Sample(" + steps + " steps, " + elapsedNanos + "ns)";
+        }
+    }
+}
@@ -4,7 +4,9 @@ import hydrafp.io.core.adt.Either;
 import hydrafp.io.core.adt.Option;
 import hydrafp.io.core.adt.Try;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -21,6 +23,20 @@ public interface RecursiveComputation<T> {
      */
     Either<Throwable, T> compute();
 
+    /**
+     * Computes the result of this computation, observing the given cancellation token.
+     * Computations that run in steps check the token between steps; others only check it before starting.
+     * @param token The token signalling cancellation.
+     * @return An "Either" containing either the computed result or an error,
+     * a CancellationException if the token was cancelled.
+     */
+    default Either<Throwable, T> compute(CancellationToken token) {
+        if (token.isCancelled()) {
+            return Either.left(new CancellationException("Computation was cancelled"));
+        }
+        return compute();
+    }
+
     /**
      * Returns a memoized version of this computation.
      * @return A new RecursiveComputation that caches its result after the first computation.
@@ -41,6 +57,8 @@ public interface RecursiveComputation<T> {
 
     /**
      * Returns a new computation with a timeout using the specified executor.
+     * On timeout the computation is cancelled through a CancellationToken, so step-wise
+     * computations stop at their next step instead of running on in the background.
      * @param timeout The duration of the timeout.
      * @param unit The time unit of the timeout duration.
      * @param executor The executor to use for running the computation.
@@ -48,22 +66,37 @@ public interface RecursiveComputation<T> {
      */
     default RecursiveComputation<T> timeout(long timeout, TimeUnit unit, Executor executor) {
         return () -> {
-            CompletableFuture<Either<Throwable, T>> future = CompletableFuture.supplyAsync(this::compute, executor);
-
+            CancellationToken token = CancellationToken.create();
+            CompletableFuture<Either<Throwable, T>> future = null;
             try {
+                future = CompletableFuture.supplyAsync(() -> compute(token), executor);
                 return future.get(timeout, unit);
             } catch (TimeoutException e) {
+                token.cancel();
                 future.cancel(true);
                 return Either.left(new TimeoutException("Computation timed out after " + timeout + " " + unit.name().toLowerCase()));
             } catch (InterruptedException e) {
+                token.cancel();
                 Thread.currentThread().interrupt();
                 return Either.left(e);
+            } catch (ExecutionException e) {
+                return Either.left(e.getCause());
             } catch (Exception e) {
+                token.cancel();
                 return Either.left(e);
             }
         };
     }
 
+    /**
+     * Returns the shared, bounded executor for timed computations.
+     * It runs at most one thread per processor on daemon threads and rejects work once its queue is full.
+     * @return The shared executor, suitable for {@link #timeout(long, TimeUnit, Executor)}.
+     */
+    static Executor boundedExecutor() {
+        return BoundedExecutor.SHARED;
+    }
+
     /**
      * Maps the result of this computation using the provided function.
      * @param f The function to apply to the result.
@@ -71,7 +104,18 @@ public interface RecursiveComputation<T> {
      * @return A new RecursiveComputation with the mapped result.
      */
     default <R> RecursiveComputation<R> map(Function<? super T, ? extends R> f) {
-        return () -> compute().map(f);
+        RecursiveComputation<T> source = this;
+        return new RecursiveComputation<R>() {
+            @Override
+            public Either<Throwable, R> compute() {
+                return source.compute().map(f::apply);
+            }
+
+            @Override
+            public Either<Throwable, R> compute(CancellationToken token) {
+                return source.compute(token).map(f::apply);
+            }
+        };
     }
 
     /**
@@ -81,7 +125,18 @@ public interface RecursiveComputation<T> {
      * @return A new RecursiveComputation with the flat mapped result.
      */
     default <R> RecursiveComputation<R> flatMap(Function<? super T, ? extends RecursiveComputation<R>> f) {
-        return () -> compute().flatMap(t -> f.apply(t).compute());
+        RecursiveComputation<T> source = this;
+        return new RecursiveComputation<R>() {
+            @Override
+            public Either<Throwable, R> compute() {
+                return source.compute().flatMap(t -> f.apply(t).compute());
+            }
+
+            @Override
+            public Either<Throwable, R> compute(CancellationToken token) {
+                return source.compute(token).flatMap(t -> f.apply(t).compute(token));
+            }
+        };
     }
 
     /**
@@ -139,6 +194,24 @@ class MemoizedComputation<T> implements RecursiveComputation<T> {
         this.computation = computation;
     }
 
+    @Override
+    public Either<Throwable, T> compute(CancellationToken token) {
+        Either<Throwable, T> result = memoizedResult;
+        if (result != null) {
+            return result;
+        }
+        result = computation.compute(token);
+        if (result.isLeft() && result.getLeft() instanceof CancellationException) {
+            return result;
+        }
+        synchronized (this) {
+            if (memoizedResult == null) {
+                memoizedResult = result;
+            }
+        }
+        return memoizedResult;
+    }
+
     @Override
     public Either<Throwable, T> compute() {
         if (memoizedResult == null) {
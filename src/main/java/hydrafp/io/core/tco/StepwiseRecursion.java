@@ -14,12 +14,13 @@ import java.util.function.Predicate;
  */
 public class StepwiseRecursion<T> implements RecursiveComputation<T> {
     private final T initial;
-    private final List<Function<T, Either<Throwable, T>>> steps;
+    private final Step<T>[] steps;
     private final Predicate<T> isDone;
 
-    private StepwiseRecursion(T initial, List<Function<T, Either<Throwable, T>>> steps, Predicate<T> isDone) {
+    @SuppressWarnings("unchecked")
+    private StepwiseRecursion(T initial, List<Step<T>> steps, Predicate<T> isDone) {
         this.initial = initial;
-        this.steps = steps;
+        this.steps = (Step<T>[]) steps.toArray(new Step<?>[0]);
         this.isDone = isDone;
     }
 
@@ -38,37 +39,84 @@ public class StepwiseRecursion<T> implements RecursiveComputation<T> {
         return toTailRec().run();
     }
 
+    @Override
+    public Either<Throwable, T> compute(CancellationToken token) {
+        return toTailRec().run(token);
+    }
+
+    /**
+     * Computes the result, reporting progress to the given probe. A step is one pass over all steps.
+     * @param probe The probe sampled every configured number of steps.
+     * @return An Either containing either the computed result or an error.
+     */
+    public Either<Throwable, T> compute(RecursionProbe probe) {
+        return toTailRec().run(probe);
+    }
+
+    /**
+     * Computes the result until it completes or the token is cancelled, reporting progress to the given probe.
+     * @param token The token signalling cancellation.
+     * @param probe The probe sampled every configured number of steps.
+     * @return An Either containing either the computed result or an error.
+     */
+    public Either<Throwable, T> compute(CancellationToken token, RecursionProbe probe) {
+        return toTailRec().run(token, probe);
+    }
+
     private TailRec<T> toTailRec() {
         return new TailRec<T>() {
             private T current = initial;
 
             @Override
-            public Either<Throwable, TailRec<T>> resume() {
+            public TailRec<T> resume() {
                 if (isDone.test(current)) {
-                    return Either.right(TailRec.pure(current));
+                    return TailRec.pure(current);
                 }
-                for (Function<T, Either<Throwable, T>> step : steps) {
-                    Either<Throwable, T> result = step.apply(current);
-                    if (result.isLeft()) {
-                        return Either.left(result.getLeft());
+                for (Step<T> step : steps) {
+                    if (step.plain != null) {
+                        try {
+                            current = step.plain.apply(current);
+                        } catch (Throwable t) {
+                            return TailRec.raiseError(t);
+                        }
+                    } else {
+                        Either<Throwable, T> result = step.checked.apply(current);
+                        if (result.isLeft()) {
+                            return TailRec.raiseError(result.getLeft());
+                        }
+                        current = result.getRight();
                     }
-                    current = result.getRight();
                     if (isDone.test(current)) {
-                        return Either.right(TailRec.pure(current));
+                        return TailRec.pure(current);
                     }
                 }
-                return Either.right(this);
+                return this;
             }
         };
     }
 
+    /**
+     * A single step of the computation. Plain steps are applied directly so that the
+     * hot path does not wrap every intermediate value in an Either.
+     * @param <T> The type of the computation state.
+     */
+    private static final class Step<T> {
+        final Function<T, T> plain;
+        final Function<T, Either<Throwable, T>> checked;
+
+        private Step(Function<T, T> plain, Function<T, Either<Throwable, T>> checked) {
+            this.plain = plain;
+            this.checked = checked;
+        }
+    }
+
     /**
      * Builder class for creating StepwiseRecursion instances.
      * @param <T> The type of the computation result.
      */
     public static class StepwiseRecursionBuilder<T> {
         private final T initial;
-        private final List<Function<T, Either<Throwable, T>>> steps = new ArrayList<>();
+        private final List<Step<T>> steps = new ArrayList<>();
         private Predicate<T> isDone = t -> false;
 
         private StepwiseRecursionBuilder(T initial) {
@@ -81,7 +129,7 @@ public class StepwiseRecursion<T> implements RecursiveComputation<T> {
          * @return This builder instance.
          */
         public StepwiseRecursionBuilder<T> step(Function<T, T> step) {
-            steps.add(t -> Either.catching(() -> step.apply(t), Throwable::new));
+            steps.add(new Step<>(step, null));
             return this;
         }
 
@@ -91,7 +139,7 @@ public class StepwiseRecursion<T> implements RecursiveComputation<T> {
          * @return This builder instance.
          */
         public StepwiseRecursionBuilder<T> stepEither(Function<T, Either<Throwable, T>> step) {
-            steps.add(step);
+            steps.add(new Step<>(null, step));
             return this;
         }
 
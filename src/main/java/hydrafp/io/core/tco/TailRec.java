@@ -3,7 +3,10 @@ package hydrafp.io.core.tco;
 import hydrafp.io.core.adt.Either;
 import hydrafp.io.core.adt.Option;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -18,10 +21,12 @@ public interface TailRec<A> extends RecursiveComputation<A> {
 
     /**
      * Performs one step of the tail-recursive computation.
+     * A {@link Done} node holds the final result and an {@link Error} node a failure;
+     * any other node is the next step. Exceptions thrown here are turned into failures by {@link #run()}.
      *
-     * @return Either the next step of the computation or the final result.
+     * @return The next step of the computation.
      */
-    Either<Throwable, TailRec<A>> resume();
+    TailRec<A> resume();
 
     /**
      * Computes the result of this tail-recursive computation.
@@ -33,24 +38,61 @@ public interface TailRec<A> extends RecursiveComputation<A> {
         return run();
     }
 
+    /**
+     * Computes the result of this tail-recursive computation, observing the given cancellation token.
+     *
+     * @param token The token signalling cancellation.
+     * @return An Either containing either the computed result or an error.
+     */
+    @Override
+    default Either<Throwable, A> compute(CancellationToken token) {
+        return run(token);
+    }
+
     /**
      * Runs the tail-recursive computation to completion.
      *
      * @return The final result of the computation.
      */
     default Either<Throwable, A> run() {
-        TailRec<A> current = this;
-        while (true) {
-            Either<Throwable, TailRec<A>> resumed = current.resume();
-            if (resumed.isLeft()) {
-                return Either.left(resumed.getLeft());
-            }
-            TailRec<A> next = resumed.getRight();
-            if (next instanceof Done) {
-                return Either.right(((Done<A>) next).value);
-            }
-            current = next;
-        }
+        return evaluate(this, CancellationToken.none(), null);
+    }
+
+    /**
+     * Runs the tail-recursive computation until it completes or the token is cancelled.
+     * The token is checked between steps.
+     *
+     * @param token The token signalling cancellation.
+     * @return The final result of the computation, or a CancellationException if it was cancelled.
+     */
+    default Either<Throwable, A> run(CancellationToken token) {
+        Objects.requireNonNull(token, "Cancellation token must not be null");
+        return evaluate(this, token, null);
+    }
+
+    /**
+     * Runs the tail-recursive computation to completion, reporting progress to the given probe.
+     *
+     * @param probe The probe sampled every configured number of steps.
+     * @return The final result of the computation.
+     */
+    default Either<Throwable, A> run(RecursionProbe probe) {
+        return run(CancellationToken.none(), probe);
+    }
+
+    /**
+     * Runs the tail-recursive computation until it completes or the token is cancelled,
+     * reporting progress to the given probe.
+     *
+     * @param token The token signalling cancellation.
+     * @param probe The probe sampled every configured number of steps.
+     * @return The final result of the computation, or a CancellationException if it was cancelled.
+     */
+    default Either<Throwable, A> run(CancellationToken token, RecursionProbe probe) {
+        Objects.requireNonNull(token, "Cancellation token must not be null");
+        Objects.requireNonNull(probe, "Probe must not be null");
+        probe.start();
+        return evaluate(this, token, probe);
     }
 
     /**
@@ -88,15 +130,9 @@ public interface TailRec<A> extends RecursiveComputation<A> {
     @Override
     default <B> TailRec<B> flatMap(Function<? super A, ? extends RecursiveComputation<B>> f) {
         Objects.requireNonNull(f, "Flat mapping function must not be null");
-        return defer(() -> run().flatMap(a -> {
-            RecursiveComputation<B> computation = f.apply(a);
-            if (computation instanceof TailRec) {
-                return Either.right((TailRec<B>) computation);
-            } else {
-                return computation.compute().map(TailRec::pure);
-            }
-        }));
+        return new FlatMap<>(this, a -> fromComputation(f.apply(a)));
     }
+
     /**
      * Creates a TailRec that always succeeds with the given value.
      *
@@ -115,7 +151,7 @@ public interface TailRec<A> extends RecursiveComputation<A> {
      * @param <A>   The type of the computation result.
      * @return A new TailRec representing the deferred computation.
      */
-    static <A> TailRec<A> defer(Supplier<Either<Throwable, TailRec<A>>> thunk) {
+    static <A> TailRec<A> defer(Supplier<? extends TailRec<A>> thunk) {
         Objects.requireNonNull(thunk, "Deferred computation must not be null");
         return new More<>(thunk);
     }
@@ -131,9 +167,9 @@ public interface TailRec<A> extends RecursiveComputation<A> {
         Objects.requireNonNull(thunk, "Suspended computation must not be null");
         return defer(() -> {
             try {
-                return Either.right(pure(thunk.get()));
+                return pure(thunk.get());
             } catch (Throwable t) {
-                return Either.left(t);
+                return raiseError(t);
             }
         });
     }
@@ -148,7 +184,7 @@ public interface TailRec<A> extends RecursiveComputation<A> {
      */
     static <A, B> Function<A, TailRec<B>> tailRec(Function<A, TailRec<B>> f) {
         Objects.requireNonNull(f, "Function must not be null");
-        return a -> new More<>(() -> Either.right(f.apply(a)));
+        return a -> new More<>(() -> f.apply(a));
     }
 
     /**
@@ -171,7 +207,114 @@ public interface TailRec<A> extends RecursiveComputation<A> {
      */
     default TailRec<A> handleErrorWith(Function<Throwable, TailRec<A>> handler) {
         Objects.requireNonNull(handler, "Error handler must not be null");
-        return defer(() -> run().fold(t -> Either.right(handler.apply(t)), a -> Either.right(pure(a))));
+        return new HandleErrorWith<>(this, handler);
+    }
+
+    /**
+     * Interprets a TailRec in constant stack space. Binds are pushed onto an explicit continuation
+     * stack instead of nesting {@code run()} calls, so left-nested flatMaps are reassociated and
+     * evaluated in linear time. Error handlers share the stack and are skipped on success.
+     * Plain steps allocate nothing beyond the nodes the computation itself returns.
+     *
+     * @param start The computation to evaluate.
+     * @param token The token checked before every step.
+     * @param probe The probe sampled every configured number of steps, or null.
+     * @param <A>   The type of the computation result.
+     * @return The final result of the computation.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> Either<Throwable, A> evaluate(TailRec<A> start, CancellationToken token, RecursionProbe probe) {
+        Deque<Object> continuations = null;
+        TailRec<Object> current = (TailRec<Object>) start;
+        long steps = 0;
+        while (true) {
+            if (token.isCancelled()) {
+                return finish(probe, steps, Either.left(new CancellationException("Computation was cancelled")));
+            }
+            if (probe != null && probe.isDue(++steps)) {
+                probe.sample(steps);
+            }
+            if (current instanceof Done) {
+                Object value = ((Done<Object>) current).value;
+                Object frame = continuations == null ? null : continuations.poll();
+                while (frame instanceof HandleErrorWith) {
+                    frame = continuations.poll();
+                }
+                if (frame == null) {
+                    return finish(probe, steps, Either.right((A) value));
+                }
+                try {
+                    current = ((Function<Object, TailRec<Object>>) frame).apply(value);
+                } catch (Throwable t) {
+                    current = new Error<>(t);
+                }
+            } else if (current instanceof Error) {
+                Throwable error = ((Error<Object>) current).error;
+                Object frame = continuations == null ? null : continuations.poll();
+                while (frame != null && !(frame instanceof HandleErrorWith)) {
+                    frame = continuations.poll();
+                }
+                if (frame == null) {
+                    return finish(probe, steps, Either.left(error));
+                }
+                try {
+                    current = ((HandleErrorWith<Object>) frame).handler.apply(error);
+                } catch (Throwable t) {
+                    current = new Error<>(t);
+                }
+            } else if (current instanceof FlatMap) {
+                FlatMap<Object, Object> bind = (FlatMap<Object, Object>) current;
+                if (continuations == null) {
+                    continuations = new ArrayDeque<>();
+                }
+                continuations.push(bind.f);
+                current = bind.source;
+            } else if (current instanceof HandleErrorWith) {
+                HandleErrorWith<Object> recovery = (HandleErrorWith<Object>) current;
+                if (continuations == null) {
+                    continuations = new ArrayDeque<>();
+                }
+                continuations.push(recovery);
+                current = recovery.source;
+            } else {
+                try {
+                    current = Objects.requireNonNull(current.resume(), "resume() must not return null");
+                } catch (Throwable t) {
+                    current = new Error<>(t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports the final step count to the probe, if any, and returns the result unchanged.
+     *
+     * @param probe  The probe of the current run, or null.
+     * @param steps  The number of steps evaluated.
+     * @param result The result of the computation.
+     * @param <A>    The type of the computation result.
+     * @return The given result.
+     */
+    private static <A> Either<Throwable, A> finish(RecursionProbe probe, long steps, Either<Throwable, A> result) {
+        if (probe != null) {
+            probe.finish(steps);
+        }
+        return result;
+    }
+
+    /**
+     * Lifts an arbitrary RecursiveComputation into a TailRec.
+     *
+     * @param computation The computation to lift.
+     * @param <A>         The type of the computation result.
+     * @return The computation itself if it is already a TailRec, otherwise its evaluated result.
+     */
+    private static <A> TailRec<A> fromComputation(RecursiveComputation<A> computation) {
+        Objects.requireNonNull(computation, "Flat mapping function must not return null");
+        if (computation instanceof TailRec) {
+            return (TailRec<A>) computation;
+        }
+        return computation.compute().fold(TailRec::raiseError, TailRec::pure);
     }
 
     /**
@@ -187,8 +330,8 @@ public interface TailRec<A> extends RecursiveComputation<A> {
         }
 
         @Override
-        public Either<Throwable, TailRec<A>> resume() {
-            return Either.right(this);
+        public TailRec<A> resume() {
+            return this;
         }
     }
 
@@ -198,18 +341,77 @@ public interface TailRec<A> extends RecursiveComputation<A> {
      * @param <A> The type of the computation result.
      */
     final class More<A> implements TailRec<A> {
-        private final Supplier<Either<Throwable, TailRec<A>>> next;
+        private final Supplier<? extends TailRec<A>> next;
 
-        private More(Supplier<Either<Throwable, TailRec<A>>> next) {
+        private More(Supplier<? extends TailRec<A>> next) {
             this.next = next;
         }
 
         @Override
-        public Either<Throwable, TailRec<A>> resume() {
+        public TailRec<A> resume() {
             return next.get();
         }
     }
 
+    /**
+     * Represents a bind of a TailRec computation to a continuation.
+     * Evaluated by {@link #run()} through an explicit continuation stack.
+     *
+     * @param <A> The type of the source result.
+     * @param <B> The type of the computation result.
+     */
+    final class FlatMap<A, B> implements TailRec<B> {
+        private final TailRec<A> source;
+        private final Function<A, TailRec<B>> f;
+
+        private FlatMap(TailRec<A> source, Function<A, TailRec<B>> f) {
+            this.source = source;
+            this.f = f;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public TailRec<B> resume() {
+            if (source instanceof Done) {
+                return f.apply(((Done<A>) source).value);
+            }
+            if (source instanceof Error) {
+                return (TailRec<B>) source;
+            }
+            if (source instanceof FlatMap) {
+                FlatMap<Object, A> inner = (FlatMap<Object, A>) source;
+                return new FlatMap<>(inner.source, x -> new FlatMap<>(inner.f.apply(x), f));
+            }
+            return new FlatMap<>(source.resume(), f);
+        }
+    }
+
+    /**
+     * Represents a TailRec computation guarded by an error handler.
+     *
+     * @param <A> The type of the computation result.
+     */
+    final class HandleErrorWith<A> implements TailRec<A> {
+        private final TailRec<A> source;
+        private final Function<Throwable, TailRec<A>> handler;
+
+        private HandleErrorWith(TailRec<A> source, Function<Throwable, TailRec<A>> handler) {
+            this.source = source;
+            this.handler = handler;
+        }
+
+        @Override
+        public TailRec<A> resume() {
+            if (source instanceof Done) {
+                return source;
+            }
+            if (source instanceof Error) {
+                return handler.apply(((Error<A>) source).error);
+            }
+            return new HandleErrorWith<>(source.resume(), handler);
+        }
+    }
+
     /**
      * Represents a failed TailRec computation.
      *
@@ -223,8 +425,8 @@ public interface TailRec<A> extends RecursiveComputation<A> {
         }
 
         @Override
-        public Either<Throwable, TailRec<A>> resume() {
-            return Either.left(error);
+        public TailRec<A> resume() {
+            return this;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package hydrafp.io.core.validation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A persistent, non-empty sequence of errors with constant-time concatenation.
+ * Concatenations form a tree that is only flattened, iteratively, when the errors are read.
+ */
+abstract class ErrorChain<E> {
+    private ErrorChain() {
+    }
+
+    static <E> ErrorChain<E> of(E error) {
+        return new Single<>(error);
+    }
+
+    static <E> ErrorChain<E> ofAll(List<E> errors) {
+        if (errors.isEmpty()) {
+            throw new IllegalArgumentException("errors must not be empty");
+        }
+        return errors.size() == 1 ? new Single<>(errors.get(0)) : new Many<>(errors.toArray());
+    }
+
+    abstract int size();
+
+    abstract void appendTo(List<E> out);
+
+    ErrorChain<E> concat(ErrorChain<E> other) {
+        return new Concat<>(this, other);
+    }
+
+    List<E> toList() {
+        List<E> out = new ArrayList<>(size());
+        Deque<ErrorChain<E>> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            ErrorChain<E> next = pending.pop();
+            if (next instanceof Concat<E> concat) {
+                pending.push(concat.right);
+                pending.push(concat.left);
+            } else {
+                next.appendTo(out);
+            }
+        }
+        return out;
+    }
+
+    private static final class Single<E> extends ErrorChain<E> {
+        private final E error;
+
+        Single(E error) {
+            this.error = error;
+        }
+
+        @Override
+        int size() {
+            return 1;
+        }
+
+        @Override
+        void appendTo(List<E> out) {
+            out.add(error);
+        }
+    }
+
+    private static final class Many<E> extends ErrorChain<E> {
+        private final Object[] errors;
+
+        Many(Object[] errors) {
+            this.errors = errors;
+        }
+
+        @Override
+        int size() {
+            return errors.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void appendTo(List<E> out) {
+            for (Object error : errors) {
+                out.add((E) error);
+            }
+        }
+    }
+
+    private static final class Concat<E> extends ErrorChain<E> {
+        private final ErrorChain<E> left;
+        private final ErrorChain<E> right;
+        private final int size;
+
+        Concat(ErrorChain<E> left, ErrorChain<E> right) {
+            this.left = left;
+            this.right = right;
+            this.size = left.size() + right.size();
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        void appendTo(List<E> out) {
+            out.addAll(toList());
+        }
+    }
+}
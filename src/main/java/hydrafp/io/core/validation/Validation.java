@@ -1,71 +1,338 @@
 package hydrafp.io.core.validation;
 
+import hydrafp.io.core.collections.ImmutableList;
+import hydrafp.io.core.functions.Function2;
+import hydrafp.io.core.functions.Function3;
+import hydrafp.io.core.functions.Function4;
+import hydrafp.io.core.functions.Function5;
+import hydrafp.io.core.functions.Function6;
+import hydrafp.io.core.functions.Function7;
+import hydrafp.io.core.functions.Function8;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
-public class Validation<E, T> {
-    private final List<E> errors;
-    private final T value;
-
-    private Validation(List<E> errors, T value) {
-        this.errors = errors;
-        this.value = value;
+public abstract class Validation<E, T> {
+    private Validation() {
     }
 
     public static <E, T> Validation<E, T> valid(T value) {
-        return new Validation<>(new ArrayList<>(), value);
+        return new Valid<>(value);
     }
 
     public static <E, T> Validation<E, T> invalid(E error) {
-        List<E> errors = new ArrayList<>();
-        errors.add(error);
-        return new Validation<>(errors, null);
+        return new Invalid<>(ErrorChain.of(error));
     }
 
     public static <E, T> Validation<E, T> invalid(List<E> errors) {
-        return new Validation<>(new ArrayList<>(errors), null);
+        return new Invalid<>(ErrorChain.ofAll(errors));
+    }
+
+    public abstract boolean isValid();
+
+    public abstract int ordinal();
+
+    public abstract List<E> getErrors();
+
+    public abstract T getValue();
+
+    public abstract <U> Validation<E, U> map(Function<? super T, ? extends U> mapper);
+
+    public abstract <U> Validation<E, U> flatMap(Function<? super T, Validation<E, U>> mapper);
+
+    public static <E, T, U, V> Validation<E, V> map2(
+            Validation<E, T> v1,
+            Validation<E, U> v2,
+            Function<T, Function<U, V>> f
+    ) {
+        if (v1.isValid() && v2.isValid()) {
+            return valid(f.apply(v1.getValue()).apply(v2.getValue()));
+        }
+        return new Invalid<>(concat(errorsOf(v1), errorsOf(v2)));
     }
 
-    public boolean isValid() {
-        return errors.isEmpty();
+    public static <E, T1, T2, R> Validation<E, R> mapN(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Function2<T1, T2, R> f
+    ) {
+        ErrorChain<E> errors = concat(errorsOf(v1), errorsOf(v2));
+        return errors == null ? valid(f.apply(v1.getValue(), v2.getValue())) : new Invalid<>(errors);
     }
 
-    public List<E> getErrors() {
-        return new ArrayList<>(errors);
+    public static <E, T1, T2, T3, R> Validation<E, R> mapN(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Function3<T1, T2, T3, R> f
+    ) {
+        ErrorChain<E> errors = concat(concat(errorsOf(v1), errorsOf(v2)), errorsOf(v3));
+        return errors == null ? valid(f.apply(v1.getValue(), v2.getValue(), v3.getValue())) : new Invalid<>(errors);
     }
 
-    public T getValue() {
-        if (!isValid()) {
-            throw new IllegalStateException("Cannot get value from invalid Validation");
+    public static <E, T1, T2, T3, T4, R> Validation<E, R> mapN(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Function4<T1, T2, T3, T4, R> f
+    ) {
+        ErrorChain<E> errors = concat(concat(concat(errorsOf(v1), errorsOf(v2)), errorsOf(v3)), errorsOf(v4));
+        return errors == null ? valid(f.apply(v1.getValue(), v2.getValue(), v3.getValue(), v4.getValue())) : new Invalid<>(errors);
+    }
+
+    public static <E, T1, T2, T3, T4, T5, R> Validation<E, R> mapN(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5,
+            Function5<T1, T2, T3, T4, T5, R> f
+    ) {
+        ErrorChain<E> errors = concat(concat(concat(concat(errorsOf(v1), errorsOf(v2)), errorsOf(v3)), errorsOf(v4)), errorsOf(v5));
+        return errors == null ? valid(f.apply(v1.getValue(), v2.getValue(), v3.getValue(), v4.getValue(), v5.getValue())) : new Invalid<>(errors);
+    }
+
+    public static <E, T1, T2, T3, T4, T5, T6, R> Validation<E, R> mapN(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5,
+            Validation<E, T6> v6,
+            Function6<T1, T2, T3, T4, T5, T6, R> f
+    ) {
+        ErrorChain<E> errors = concat(concat(concat(concat(concat(errorsOf(v1), errorsOf(v2)), errorsOf(v3)), errorsOf(v4)), errorsOf(v5)), errorsOf(v6));
+        return errors == null ? valid(f.apply(v1.getValue(), v2.getValue(), v3.getValue(), v4.getValue(), v5.getValue(), v6.getValue())) : new Invalid<>(errors);
+    }
+
+    public static <E, T1, T2, T3, T4, T5, T6, T7, R> Validation<E, R> mapN(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5,
+            Validation<E, T6> v6,
+            Validation<E, T7> v7,
+            Function7<T1, T2, T3, T4, T5, T6, T7, R> f
+    ) {
+        ErrorChain<E> errors = concat(concat(concat(concat(concat(concat(errorsOf(v1), errorsOf(v2)), errorsOf(v3)), errorsOf(v4)), errorsOf(v5)), errorsOf(v6)), errorsOf(v7));
+        return errors == null ? valid(f.apply(v1.getValue(), v2.getValue(), v3.getValue(), v4.getValue(), v5.getValue(), v6.getValue(), v7.getValue())) : new Invalid<>(errors);
+    }
+
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, R> Validation<E, R> mapN(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5,
+            Validation<E, T6> v6,
+            Validation<E, T7> v7,
+            Validation<E, T8> v8,
+            Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f
+    ) {
+        ErrorChain<E> errors = concat(concat(concat(concat(concat(concat(concat(errorsOf(v1), errorsOf(v2)), errorsOf(v3)), errorsOf(v4)), errorsOf(v5)), errorsOf(v6)), errorsOf(v7)), errorsOf(v8));
+        return errors == null ? valid(f.apply(v1.getValue(), v2.getValue(), v3.getValue(), v4.getValue(), v5.getValue(), v6.getValue(), v7.getValue(), v8.getValue())) : new Invalid<>(errors);
+    }
+    public static <E, T, U> Validation<E, ImmutableList<U>> traverse(
+            ImmutableList<T> items,
+            Function<? super T, Validation<E, U>> f
+    ) {
+        List<U> values = new ArrayList<>(items.size());
+        ErrorChain<E> errors = null;
+        for (ImmutableList<T> rest = items; !rest.isEmpty(); rest = rest.tail()) {
+            Validation<E, U> result = f.apply(rest.head().get());
+            if (result instanceof Invalid<E, U> invalid) {
+                errors = concat(errors, invalid.errors);
+            } else if (errors == null) {
+                values.add(result.getValue());
+            }
         }
-        return value;
+        if (errors != null) {
+            return new Invalid<>(errors);
+        }
+        ImmutableList<U> list = ImmutableList.empty();
+        for (int i = values.size() - 1; i >= 0; i--) {
+            list = list.cons(values.get(i));
+        }
+        return valid(list);
     }
 
-    public <U> Validation<E, U> map(Function<? super T, ? extends U> mapper) {
-        if (isValid()) {
-            return valid(mapper.apply(value));
+    public static <E, T, U> Validation<E, List<U>> traverse(
+            Iterable<T> items,
+            Function<? super T, Validation<E, U>> f
+    ) {
+        List<U> values = new ArrayList<>();
+        ErrorChain<E> errors = null;
+        for (T item : items) {
+            Validation<E, U> result = f.apply(item);
+            if (result instanceof Invalid<E, U> invalid) {
+                errors = concat(errors, invalid.errors);
+            } else if (errors == null) {
+                values.add(result.getValue());
+            }
         }
-        return new Validation<>(errors, null);
+        return errors == null ? valid(Collections.unmodifiableList(values)) : new Invalid<>(errors);
+    }
+
+    public static <E, T> Validation<E, ImmutableList<T>> sequence(ImmutableList<Validation<E, T>> validations) {
+        return traverse(validations, Function.identity());
+    }
+
+    public static <E, T> Validation<E, List<T>> sequence(Iterable<Validation<E, T>> validations) {
+        return traverse(validations, Function.identity());
+    }
+
+    public static <E, T, U> Validation<E, List<U>> parTraverse(
+            List<T> items,
+            Function<? super T, Validation<E, U>> f
+    ) {
+        return parTraverse(items, f, ForkJoinPool.commonPool());
+    }
+
+    public static <E, T, U> Validation<E, List<U>> parTraverse(
+            List<T> items,
+            Function<? super T, Validation<E, U>> f,
+            ForkJoinPool pool
+    ) {
+        Objects.requireNonNull(pool, "pool must not be null");
+        @SuppressWarnings("unchecked")
+        Validation<E, U>[] results = (Validation<E, U>[]) new Validation<?, ?>[items.size()];
+        pool.submit(() -> IntStream.range(0, results.length).parallel()
+                .forEach(i -> results[i] = f.apply(items.get(i)))).join();
+        return traverse(Arrays.asList(results), Function.identity());
+    }
+
+    static <E> ErrorChain<E> errorsOf(Validation<E, ?> validation) {
+        return validation instanceof Invalid<E, ?> invalid ? invalid.errors : null;
     }
 
-    public <U> Validation<E, U> flatMap(Function<? super T, Validation<E, U>> mapper) {
-        if (isValid()) {
+    static <E> ErrorChain<E> concat(ErrorChain<E> first, ErrorChain<E> second) {
+        if (first == null) return second;
+        if (second == null) return first;
+        return first.concat(second);
+    }
+
+    private static final class Valid<E, T> extends Validation<E, T> {
+        private final T value;
+
+        private Valid(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public int ordinal() {
+            return 1;
+        }
+
+        @Override
+        public List<E> getErrors() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public T getValue() {
+            return value;
+        }
+
+        @Override
+        public <U> Validation<E, U> map(Function<? super T, ? extends U> mapper) {
+            return valid(mapper.apply(value));
+        }
+
+        @Override
+        public <U> Validation<E, U> flatMap(Function<? super T, Validation<E, U>> mapper) {
             return mapper.apply(value);
         }
-        return new Validation<>(errors, null);
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            Valid<?, ?> valid = (Valid<?, ?>) obj;
+            return Objects.equals(value, valid.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Valid(" + value + ")";
+        }
     }
 
-    public static <E, T, U, V> Validation<E, V> map2(
-            Validation<E, T> v1,
-            Validation<E, U> v2,
-            Function<T, Function<U, V>> f
-    ) {
-        if (v1.isValid() && v2.isValid()) {
-            return valid(f.apply(v1.getValue()).apply(v2.getValue()));
+    private static final class Invalid<E, T> extends Validation<E, T> {
+        private final ErrorChain<E> errors;
+
+        private Invalid(ErrorChain<E> errors) {
+            this.errors = errors;
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @Override
+        public int ordinal() {
+            return 0;
+        }
+
+        @Override
+        public List<E> getErrors() {
+            return errors.toList();
+        }
+
+        @Override
+        public T getValue() {
+            throw new IllegalStateException("Cannot get value from invalid Validation");
+        }
+
+        @Override
+        public <U> Validation<E, U> map(Function<? super T, ? extends U> mapper) {
+            return retyped();
+        }
+
+        @Override
+        public <U> Validation<E, U> flatMap(Function<? super T, Validation<E, U>> mapper) {
+            return retyped();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <U> Validation<E, U> retyped() {
+            return (Validation<E, U>) this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            Invalid<?, ?> invalid = (Invalid<?, ?>) obj;
+            return errors.toList().equals(invalid.errors.toList());
+        }
+
+        @Override
+        public int hashCode() {
+            return errors.toList().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Invalid(" + errors.toList() + ")";
         }
-        List<E> errors = new ArrayList<>(v1.getErrors());
-        errors.addAll(v2.getErrors());
-        return invalid(errors);
     }
-}
\ No newline at end of file
+}
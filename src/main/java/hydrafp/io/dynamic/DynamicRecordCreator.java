@@ -2,58 +2,80 @@ package hydrafp.io.dynamic;
 
 import hydrafp.io.core.adt.Option;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.util.Map;
 import java.util.Objects;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 public final class DynamicRecordCreator {
     private DynamicRecordCreator() {}
 
     public static DynamicRecord createRecord(Map<String, Object> values) {
         Objects.requireNonNull(values, "values must not be null");
-        return (DynamicRecord) Proxy.newProxyInstance(
-                DynamicRecord.class.getClassLoader(),
-                new Class<?>[] { DynamicRecord.class },
-                new DynamicRecordInvocationHandler(values)
-        );
+        Map<String, Object> copy = Map.copyOf(values);
+        Shape shape = Shape.sorted(copy.keySet());
+        Object[] slots = new Object[shape.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = copy.get(shape.key(i));
+        }
+        return new ShapedRecord(shape, slots);
     }
 
     public interface DynamicRecord {
         Option<Object> get(String key);
     }
 
-    private record DynamicRecordInvocationHandler(Map<String, Object> values) implements InvocationHandler {
-            private DynamicRecordInvocationHandler(Map<String, Object> values) {
-                this.values = Map.copyOf(values);
-            }
+    private static final class ShapedRecord implements DynamicRecord {
+        private final Shape shape;
+        private final Option<Object>[] slots;
+        private final int hash;
 
-            @Override
-            public Object invoke(Object proxy, Method method, Object[] args) {
-                return switch (method.getName()) {
-                    case "get" -> Option.of(values.get(args[0]));
-                    case "toString" -> toStringImpl();
-                    case "hashCode" -> Objects.hash(values.values().toArray());
-                    case "equals" -> equalsImpl(proxy, args[0]);
-                    default -> Option.of(null);
-                };
+        @SuppressWarnings("unchecked")
+        private ShapedRecord(Shape shape, Object[] values) {
+            this.shape = shape;
+            this.slots = (Option<Object>[]) new Option<?>[values.length];
+            int hash = 1;
+            for (int i = 0; i < values.length; i++) {
+                slots[i] = Option.some(values[i]);
+                hash = 31 * hash + values[i].hashCode();
             }
+            this.hash = hash;
+        }
+
+        @Override
+        public Option<Object> get(String key) {
+            int slot = shape.slotOf(key);
+            return slot < 0 ? Option.none() : slots[slot];
+        }
 
-            private String toStringImpl() {
-                String content = new TreeMap<>(values).entrySet().stream()
-                        .map(e -> e.getKey() + "=" + e.getValue())
-                        .collect(Collectors.joining(", "));
-                return "DynamicRecord{" + content + "}";
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other instanceof ShapedRecord shaped) {
+                if (shape != shaped.shape || hash != shaped.hash) return false;
+                for (int i = 0; i < slots.length; i++) {
+                    if (!slots[i].get().equals(shaped.slots[i].get())) return false;
+                }
+                return true;
+            }
+            if (!(other instanceof DynamicRecord otherRecord)) return false;
+            for (int i = 0; i < slots.length; i++) {
+                if (!Objects.equals(otherRecord.get(shape.key(i)).getOrElse((Object) null), slots[i].get())) return false;
             }
+            return true;
+        }
 
-            private boolean equalsImpl(Object proxy, Object other) {
-                if (proxy == other) return true;
-                if (!(other instanceof DynamicRecord otherRecord)) return false;
-                return values.entrySet().stream()
-                        .allMatch(entry -> otherRecord.get(entry.getKey()).getOrElse(null) == entry.getValue());
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("DynamicRecord{");
+            for (int i = 0; i < slots.length; i++) {
+                if (i > 0) builder.append(", ");
+                builder.append(shape.key(i)).append('=').append(slots[i].get());
             }
+            return builder.append('}').toString();
         }
-}
\ No newline at end of file
+    }
+}
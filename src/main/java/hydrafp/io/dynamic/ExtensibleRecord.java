@@ -5,51 +5,99 @@ import hydrafp.io.core.lens.Lens;
 import hydrafp.io.core.validation.Validation;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ExtensibleRecord {
-    private final Map<String, Object> values;
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final ExtensibleRecord EMPTY = new ExtensibleRecord(Shape.EMPTY, NO_VALUES);
 
-    private ExtensibleRecord(Map<String, Object> values) {
-        this.values = new HashMap<>(values);
+    private final Shape shape;
+    private final Object[] values;
+
+    private ExtensibleRecord(Shape shape, Object[] values) {
+        this.shape = shape;
+        this.values = values;
     }
 
     public static ExtensibleRecord create() {
-        return new ExtensibleRecord(new HashMap<>());
+        return EMPTY;
     }
 
     public static ExtensibleRecord of(Map<String, Object> values) {
-        return new ExtensibleRecord(values);
+        Shape shape = Shape.EMPTY;
+        Object[] slots = new Object[values.size()];
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            slots[shape.size()] = entry.getValue();
+            shape = shape.with(entry.getKey());
+        }
+        return new ExtensibleRecord(shape, slots);
+    }
+
+    static ExtensibleRecord ofSlots(Shape shape, Object[] values) {
+        return new ExtensibleRecord(shape, values);
+    }
+
+    Shape shape() {
+        return shape;
+    }
+
+    Object valueAt(int slot) {
+        return values[slot];
     }
 
     public <T> Option<T> get(String key) {
-        return Option.of((T) values.get(key));
+        return optionAt(shape.slotOf(key));
     }
 
     public <T> Option<T> get(Field<T> field) {
-        return Option.of((T) values.get(field.getName()));
+        return optionAt(field.slotIn(shape));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Option<T> optionAt(int slot) {
+        return slot < 0 ? Option.none() : Option.of((T) values[slot]);
     }
 
     public ExtensibleRecord extend(String key, Object value) {
-        Map<String, Object> newValues = new HashMap<>(this.values);
-        newValues.put(key, value);
-        return new ExtensibleRecord(newValues);
+        return with(shape.slotOf(key), key, value);
     }
 
     public <T> ExtensibleRecord extend(Field<T> field, T value) {
-        return extend(field.getName(), value);
+        return with(field.slotIn(shape), field.getName(), value);
+    }
+
+    private ExtensibleRecord with(int slot, String key, Object value) {
+        if (slot >= 0) {
+            Object[] newValues = values.clone();
+            newValues[slot] = value;
+            return new ExtensibleRecord(shape, newValues);
+        }
+        Object[] newValues = Arrays.copyOf(values, values.length + 1);
+        newValues[values.length] = value;
+        return new ExtensibleRecord(shape.with(key), newValues);
     }
 
     public <T> ExtensibleRecord modify(String key, Function<T, ?> modifier) {
-        return get(key).<ExtensibleRecord>map(value -> {
-            Map<String, Object> newValues = new HashMap<>(this.values);
-            newValues.put(key, modifier.apply((T) value));
-            return new ExtensibleRecord(newValues);
-        }).getOrElse(this);
+        return modify(shape.slotOf(key), modifier);
     }
 
     public <T> ExtensibleRecord modify(Field<T> field, Function<T, T> modifier) {
-        return modify(field.getName(), modifier);
+        return modify(field.slotIn(shape), modifier);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ExtensibleRecord modify(int slot, Function<T, ?> modifier) {
+        if (slot < 0 || values[slot] == null) {
+            return this;
+        }
+        Object[] newValues = values.clone();
+        newValues[slot] = modifier.apply((T) values[slot]);
+        return new ExtensibleRecord(shape, newValues);
     }
 
     public <R> Option<R> match(Pattern<ExtensibleRecord, R> pattern) {
@@ -59,13 +107,18 @@ public class ExtensibleRecord {
     public static <T> Lens<ExtensibleRecord, T> lens(Field<T> field) {
         return Lens.of(
                 record -> record.get(field).getOrElse((T) null),
-                record -> value -> record.extend(field, value)
+                (ExtensibleRecord record, T value) -> record.extend(field, value)
         );
     }
 
     @Override
     public String toString() {
-        return "ExtensibleRecord" + values;
+        StringBuilder builder = new StringBuilder("ExtensibleRecord{");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(shape.key(i)).append('=').append(values[i]);
+        }
+        return builder.append('}').toString();
     }
 
     @Override
@@ -73,21 +126,41 @@ public class ExtensibleRecord {
         if (this == obj) return true;
         if (!(obj instanceof ExtensibleRecord)) return false;
         ExtensibleRecord other = (ExtensibleRecord) obj;
-        return this.values.equals(other.values);
+        if (shape == other.shape) return Arrays.equals(values, other.values);
+        if (values.length != other.values.length) return false;
+        for (int i = 0; i < values.length; i++) {
+            int slot = other.shape.slotOf(shape.key(i));
+            if (slot < 0 || !Objects.equals(values[i], other.values[slot])) return false;
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return values.hashCode();
+        int hash = 0;
+        for (int i = 0; i < values.length; i++) {
+            hash += shape.key(i).hashCode() ^ Objects.hashCode(values[i]);
+        }
+        return hash;
     }
 
     public static class Field<T> {
         private final String name;
+        private SlotCache cache;
 
         private Field(String name) {
             this.name = name;
         }
 
+        int slotIn(Shape shape) {
+            SlotCache cached = cache;
+            if (cached == null || cached.shape != shape) {
+                cached = new SlotCache(shape, shape.slotOf(name));
+                cache = cached;
+            }
+            return cached.slot;
+        }
+
         public static <T> Field<T> of(String name) {
             return new Field<>(name);
         }
@@ -97,6 +170,16 @@ public class ExtensibleRecord {
         }
     }
 
+    private static final class SlotCache {
+        final Shape shape;
+        final int slot;
+
+        SlotCache(Shape shape, int slot) {
+            this.shape = shape;
+            this.slot = slot;
+        }
+    }
+
     public interface Pattern<T, R> {
         Option<R> match(T value);
     }
@@ -106,18 +189,69 @@ public class ExtensibleRecord {
     }
 
     public static class RecordValidation<E> {
+        private enum Mode { ACCUMULATE, FAIL_FAST, PARALLEL }
+
         private final List<Function<ExtensibleRecord, Validation<E, ExtensibleRecord>>> validators;
+        private final Mode mode;
+        private final ForkJoinPool pool;
 
-        private RecordValidation(List<Function<ExtensibleRecord, Validation<E, ExtensibleRecord>>> validators) {
+        private RecordValidation(List<Function<ExtensibleRecord, Validation<E, ExtensibleRecord>>> validators,
+                                 Mode mode, ForkJoinPool pool) {
             this.validators = validators;
+            this.mode = mode;
+            this.pool = pool;
         }
 
         @SafeVarargs
         public static <E> RecordValidation<E> of(Function<ExtensibleRecord, Validation<E, ExtensibleRecord>>... validators) {
-            return new RecordValidation<>(List.of(validators));
+            return new RecordValidation<>(List.of(validators), Mode.ACCUMULATE, null);
+        }
+
+        public RecordValidation<E> failFast() {
+            return new RecordValidation<>(validators, Mode.FAIL_FAST, null);
+        }
+
+        public RecordValidation<E> parallel() {
+            return parallel(ForkJoinPool.commonPool());
+        }
+
+        public RecordValidation<E> parallel(ForkJoinPool pool) {
+            Objects.requireNonNull(pool, "pool must not be null");
+            return new RecordValidation<>(validators, Mode.PARALLEL, pool);
         }
 
         public Validation<E, Object> validate(ExtensibleRecord record) {
+            switch (mode) {
+                case FAIL_FAST:
+                    return validateFailFast(record);
+                case PARALLEL:
+                    return validateParallel(record);
+                default:
+                    return validateSequential(record);
+            }
+        }
+
+        /**
+         * Validates a batch of records. Results always come back in the iteration order of {@code records}.
+         * In parallel mode the records are spread over the configured pool, each one validated sequentially,
+         * and the whole batch is complete before the stream is returned; otherwise the returned stream is
+         * sequential and validates lazily on the calling thread.
+         */
+        public Stream<Validation<E, Object>> validateAll(Iterable<ExtensibleRecord> records) {
+            Objects.requireNonNull(records, "records must not be null");
+            if (mode != Mode.PARALLEL) {
+                Function<ExtensibleRecord, Validation<E, Object>> perRecord =
+                        mode == Mode.FAIL_FAST ? this::validateFailFast : this::validateSequential;
+                return StreamSupport.stream(records.spliterator(), false).map(perRecord);
+            }
+            // A parallel stream forks into the pool of the thread running its terminal operation.
+            List<Validation<E, Object>> results = pool.submit(() -> StreamSupport.stream(records.spliterator(), true)
+                    .map(this::validateSequential)
+                    .collect(Collectors.toList())).join();
+            return results.stream();
+        }
+
+        private Validation<E, Object> validateSequential(ExtensibleRecord record) {
             List<E> allErrors = new ArrayList<>();
 
             for (Function<ExtensibleRecord, Validation<E, ExtensibleRecord>> validator : validators) {
@@ -127,6 +261,35 @@ public class ExtensibleRecord {
                 }
             }
 
+            return collect(record, allErrors);
+        }
+
+        private Validation<E, Object> validateFailFast(ExtensibleRecord record) {
+            for (Function<ExtensibleRecord, Validation<E, ExtensibleRecord>> validator : validators) {
+                Validation<E, ExtensibleRecord> result = validator.apply(record);
+                if (!result.isValid()) {
+                    return Validation.invalid(result.getErrors());
+                }
+            }
+            return Validation.valid(record);
+        }
+
+        private Validation<E, Object> validateParallel(ExtensibleRecord record) {
+            List<ForkJoinTask<Validation<E, ExtensibleRecord>>> tasks = new ArrayList<>(validators.size());
+            for (Function<ExtensibleRecord, Validation<E, ExtensibleRecord>> validator : validators) {
+                tasks.add(pool.submit(() -> validator.apply(record)));
+            }
+            List<E> allErrors = new ArrayList<>();
+            for (ForkJoinTask<Validation<E, ExtensibleRecord>> task : tasks) {
+                Validation<E, ExtensibleRecord> result = task.join();
+                if (!result.isValid()) {
+                    allErrors.addAll(result.getErrors());
+                }
+            }
+            return collect(record, allErrors);
+        }
+
+        private Validation<E, Object> collect(ExtensibleRecord record, List<E> allErrors) {
             if (allErrors.isEmpty()) {
                 return Validation.valid(record);
             } else {
@@ -0,0 +1,422 @@
+package hydrafp.io.dynamic;
+
+import hydrafp.io.core.adt.Option;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+public final class RecordBatch {
+    private final Shape shape;
+    private final Column[] columns;
+    private final int size;
+
+    private RecordBatch(Shape shape, Column[] columns, int size) {
+        this.shape = shape;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /**
+     * Builds a batch whose fields are those of the first record. Each column is stored as int, long or
+     * double when every value in it has that type and as objects otherwise, so the column kinds depend
+     * on the data. An empty collection gives a batch without fields; use {@link #of(Schema, Collection)}
+     * to keep the columns of an empty result and to fix their kinds up front.
+     */
+    public static RecordBatch of(Collection<ExtensibleRecord> records) {
+        Objects.requireNonNull(records, "records must not be null");
+        if (records.isEmpty()) {
+            return new RecordBatch(Shape.EMPTY, new Column[0], 0);
+        }
+        Shape shape = records.iterator().next().shape();
+        Object[][] cells = cells(shape, records);
+        Column[] columns = new Column[cells.length];
+        for (int column = 0; column < cells.length; column++) {
+            columns[column] = Column.of(Kind.of(cells[column]), shape.key(column), cells[column]);
+        }
+        return new RecordBatch(shape, columns, records.size());
+    }
+
+    public static RecordBatch of(Schema schema, Collection<ExtensibleRecord> records) {
+        Objects.requireNonNull(schema, "schema must not be null");
+        Objects.requireNonNull(records, "records must not be null");
+        Object[][] cells = cells(schema.shape, records);
+        Column[] columns = new Column[cells.length];
+        for (int column = 0; column < cells.length; column++) {
+            columns[column] = Column.of(schema.kinds[column], schema.shape.key(column), cells[column]);
+        }
+        return new RecordBatch(schema.shape, columns, records.size());
+    }
+
+    public static Schema schema() {
+        return Schema.EMPTY;
+    }
+
+    private static Object[][] cells(Shape shape, Collection<ExtensibleRecord> records) {
+        Object[][] cells = new Object[shape.size()][records.size()];
+        int row = 0;
+        for (ExtensibleRecord record : records) {
+            Shape recordShape = record.shape();
+            if (recordShape.size() != shape.size()) {
+                throw new IllegalArgumentException("All records in a batch must have the same fields");
+            }
+            for (int column = 0; column < cells.length; column++) {
+                int slot = recordShape == shape ? column : recordShape.slotOf(shape.key(column));
+                if (slot < 0) {
+                    throw new IllegalArgumentException("All records in a batch must have the same fields");
+                }
+                cells[column][row] = record.valueAt(slot);
+            }
+            row++;
+        }
+        return cells;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Row row(int index) {
+        Objects.checkIndex(index, size);
+        return new Row(index);
+    }
+
+    public List<ExtensibleRecord> toRecords() {
+        List<ExtensibleRecord> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(new Row(i).toRecord());
+        }
+        return records;
+    }
+
+    public RecordBatch filterInt(ExtensibleRecord.Field<Integer> field, IntPredicate predicate) {
+        int[] values = column(field, IntColumn.class).values;
+        int[] selected = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                selected[count++] = i;
+            }
+        }
+        return select(selected, count);
+    }
+
+    public RecordBatch filterLong(ExtensibleRecord.Field<Long> field, LongPredicate predicate) {
+        long[] values = column(field, LongColumn.class).values;
+        int[] selected = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                selected[count++] = i;
+            }
+        }
+        return select(selected, count);
+    }
+
+    public RecordBatch filterDouble(ExtensibleRecord.Field<Double> field, DoublePredicate predicate) {
+        double[] values = column(field, DoubleColumn.class).values;
+        int[] selected = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                selected[count++] = i;
+            }
+        }
+        return select(selected, count);
+    }
+
+    public RecordBatch project(ExtensibleRecord.Field<?>... fields) {
+        Shape projected = Shape.EMPTY;
+        Column[] kept = new Column[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            String name = fields[i].getName();
+            if (projected.slotOf(name) >= 0) {
+                throw new IllegalArgumentException("Projected fields must be distinct, " + name + " appears twice");
+            }
+            kept[i] = columns[slotOf(fields[i])];
+            projected = projected.with(name);
+        }
+        return new RecordBatch(projected, kept, size);
+    }
+
+    public long sumInt(ExtensibleRecord.Field<Integer> field) {
+        int[] values = column(field, IntColumn.class).values;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public long sumLong(ExtensibleRecord.Field<Long> field) {
+        long[] values = column(field, LongColumn.class).values;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public double sumDouble(ExtensibleRecord.Field<Double> field) {
+        double[] values = column(field, DoubleColumn.class).values;
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    private RecordBatch select(int[] rows, int count) {
+        if (count == size) {
+            return this;
+        }
+        Column[] selected = new Column[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            selected[i] = columns[i].select(rows, count);
+        }
+        return new RecordBatch(shape, selected, count);
+    }
+
+    private int slotOf(ExtensibleRecord.Field<?> field) {
+        Objects.requireNonNull(field, "field must not be null");
+        int slot = field.slotIn(shape);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Unknown field: " + field.getName());
+        }
+        return slot;
+    }
+
+    private <C extends Column> C column(ExtensibleRecord.Field<?> field, Class<C> type) {
+        Column column = columns[slotOf(field)];
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException("Field " + field.getName() + " is not stored as a " + type.getSimpleName());
+        }
+        return type.cast(column);
+    }
+
+    public final class Row {
+        private final int index;
+
+        private Row(int index) {
+            this.index = index;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> Option<T> get(String key) {
+            int slot = shape.slotOf(key);
+            return slot < 0 ? Option.none() : Option.of((T) columns[slot].get(index));
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> Option<T> get(ExtensibleRecord.Field<T> field) {
+            int slot = field.slotIn(shape);
+            return slot < 0 ? Option.none() : Option.of((T) columns[slot].get(index));
+        }
+
+        public int getInt(ExtensibleRecord.Field<Integer> field) {
+            return column(field, IntColumn.class).values[index];
+        }
+
+        public long getLong(ExtensibleRecord.Field<Long> field) {
+            return column(field, LongColumn.class).values[index];
+        }
+
+        public double getDouble(ExtensibleRecord.Field<Double> field) {
+            return column(field, DoubleColumn.class).values[index];
+        }
+
+        public ExtensibleRecord toRecord() {
+            Object[] values = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = columns[i].get(index);
+            }
+            return ExtensibleRecord.ofSlots(shape, values);
+        }
+
+        @Override
+        public String toString() {
+            return toRecord().toString();
+        }
+    }
+
+    /**
+     * The fields of a batch in order, each with the kind of column it is stored in.
+     * Primitive columns reject null and values of another type.
+     */
+    public static final class Schema {
+        private static final Schema EMPTY = new Schema(Shape.EMPTY, new Kind[0]);
+
+        private final Shape shape;
+        private final Kind[] kinds;
+
+        private Schema(Shape shape, Kind[] kinds) {
+            this.shape = shape;
+            this.kinds = kinds;
+        }
+
+        public Schema intField(ExtensibleRecord.Field<Integer> field) {
+            return with(field, Kind.INT);
+        }
+
+        public Schema longField(ExtensibleRecord.Field<Long> field) {
+            return with(field, Kind.LONG);
+        }
+
+        public Schema doubleField(ExtensibleRecord.Field<Double> field) {
+            return with(field, Kind.DOUBLE);
+        }
+
+        public Schema field(ExtensibleRecord.Field<?> field) {
+            return with(field, Kind.OBJECT);
+        }
+
+        private Schema with(ExtensibleRecord.Field<?> field, Kind kind) {
+            Objects.requireNonNull(field, "field must not be null");
+            String name = field.getName();
+            if (shape.slotOf(name) >= 0) {
+                throw new IllegalArgumentException("Schema fields must be distinct, " + name + " appears twice");
+            }
+            Kind[] extended = Arrays.copyOf(kinds, kinds.length + 1);
+            extended[kinds.length] = kind;
+            return new Schema(shape.with(name), extended);
+        }
+    }
+
+    private enum Kind {
+        INT, LONG, DOUBLE, OBJECT;
+
+        static Kind of(Object[] cells) {
+            if (Arrays.stream(cells).allMatch(Integer.class::isInstance)) {
+                return INT;
+            }
+            if (Arrays.stream(cells).allMatch(Long.class::isInstance)) {
+                return LONG;
+            }
+            if (Arrays.stream(cells).allMatch(Double.class::isInstance)) {
+                return DOUBLE;
+            }
+            return OBJECT;
+        }
+    }
+
+    private abstract static class Column {
+        abstract Object get(int row);
+
+        abstract Column select(int[] rows, int count);
+
+        static Column of(Kind kind, String name, Object[] cells) {
+            switch (kind) {
+                case INT: {
+                    int[] values = new int[cells.length];
+                    for (int i = 0; i < cells.length; i++) values[i] = cell(cells, i, Integer.class, name);
+                    return new IntColumn(values);
+                }
+                case LONG: {
+                    long[] values = new long[cells.length];
+                    for (int i = 0; i < cells.length; i++) values[i] = cell(cells, i, Long.class, name);
+                    return new LongColumn(values);
+                }
+                case DOUBLE: {
+                    double[] values = new double[cells.length];
+                    for (int i = 0; i < cells.length; i++) values[i] = cell(cells, i, Double.class, name);
+                    return new DoubleColumn(values);
+                }
+                default:
+                    return new ObjectColumn(cells);
+            }
+        }
+
+        private static <T> T cell(Object[] cells, int row, Class<T> type, String name) {
+            if (!type.isInstance(cells[row])) {
+                throw new IllegalArgumentException("Field " + name + " holds " + type.getSimpleName()
+                        + " values, row " + row + " was " + cells[row]);
+            }
+            return type.cast(cells[row]);
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        final int[] values;
+
+        IntColumn(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        Column select(int[] rows, int count) {
+            int[] selected = new int[count];
+            for (int i = 0; i < count; i++) selected[i] = values[rows[i]];
+            return new IntColumn(selected);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        final long[] values;
+
+        LongColumn(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        Column select(int[] rows, int count) {
+            long[] selected = new long[count];
+            for (int i = 0; i < count; i++) selected[i] = values[rows[i]];
+            return new LongColumn(selected);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        final double[] values;
+
+        DoubleColumn(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        Column select(int[] rows, int count) {
+            double[] selected = new double[count];
+            for (int i = 0; i < count; i++) selected[i] = values[rows[i]];
+            return new DoubleColumn(selected);
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        final Object[] values;
+
+        ObjectColumn(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        Column select(int[] rows, int count) {
+            Object[] selected = new Object[count];
+            for (int i = 0; i < count; i++) selected[i] = values[rows[i]];
+            return new ObjectColumn(selected);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package hydrafp.io.dynamic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The layout shared by all records with the same keys in the same order: a key-to-slot map
+ * plus cached transitions to the shapes reached by adding one more key.
+ * Shapes are only created through transitions from {@link #EMPTY}, so equal key sequences share one instance.
+ */
+final class Shape {
+    static final Shape EMPTY = new Shape(new String[0]);
+
+    private final String[] keys;
+    private final Map<String, Integer> slots;
+    private final Map<String, Shape> transitions = new ConcurrentHashMap<>();
+
+    private Shape(String[] keys) {
+        this.keys = keys;
+        this.slots = new HashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            slots.put(keys[i], i);
+        }
+    }
+
+    static Shape sorted(Collection<String> keys) {
+        String[] sorted = keys.toArray(new String[0]);
+        Arrays.sort(sorted);
+        Shape shape = EMPTY;
+        for (String key : sorted) {
+            shape = shape.with(key);
+        }
+        return shape;
+    }
+
+    Shape with(String key) {
+        Shape next = transitions.get(key);
+        if (next != null) {
+            return next;
+        }
+        return transitions.computeIfAbsent(key, k -> {
+            String[] extended = Arrays.copyOf(keys, keys.length + 1);
+            extended[keys.length] = k;
+            return new Shape(extended);
+        });
+    }
+
+    int slotOf(String key) {
+        Integer slot = slots.get(key);
+        return slot == null ? -1 : slot;
+    }
+
+    String key(int slot) {
+        return keys[slot];
+    }
+
+    int size() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,112 @@
+package hydrafp.io.pattern;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Switch-like lookup from a constant case value to the index of the first case declaring it.
+ * Dense int constants and constants of a single enum are backed by arrays, everything else by a hash map.
+ */
+abstract class ConstantTable {
+    static final int MISSING = Integer.MAX_VALUE;
+
+    private static final int MAX_INT_SPAN = 4096;
+
+    private static final ConstantTable EMPTY = new ConstantTable() {
+        @Override
+        int lookup(Object value) {
+            return MISSING;
+        }
+    };
+
+    abstract int lookup(Object value);
+
+    static ConstantTable of(List<Object> keys, List<Integer> cases) {
+        if (keys.isEmpty()) {
+            return EMPTY;
+        }
+        if (keys.stream().allMatch(k -> k instanceof Integer)) {
+            int min = keys.stream().mapToInt(k -> (Integer) k).min().getAsInt();
+            int max = keys.stream().mapToInt(k -> (Integer) k).max().getAsInt();
+            if ((long) max - min < MAX_INT_SPAN) {
+                return new IntTable(keys, cases, min, max - min + 1);
+            }
+        }
+        if (keys.get(0) instanceof Enum<?> first
+                && keys.stream().allMatch(k -> k instanceof Enum<?> e && e.getDeclaringClass() == first.getDeclaringClass())) {
+            return new EnumTable(keys, cases, first.getDeclaringClass());
+        }
+        return new HashTable(keys, cases);
+    }
+
+    private static int[] emptySlots(int size) {
+        int[] slots = new int[size];
+        Arrays.fill(slots, MISSING);
+        return slots;
+    }
+
+    private static final class IntTable extends ConstantTable {
+        private final int min;
+        private final int[] slots;
+
+        IntTable(List<Object> keys, List<Integer> cases, int min, int span) {
+            this.min = min;
+            this.slots = emptySlots(span);
+            for (int i = 0; i < keys.size(); i++) {
+                int slot = (Integer) keys.get(i) - min;
+                slots[slot] = Math.min(slots[slot], cases.get(i));
+            }
+        }
+
+        @Override
+        int lookup(Object value) {
+            if (value instanceof Integer) {
+                int slot = (Integer) value - min;
+                if (slot >= 0 && slot < slots.length) {
+                    return slots[slot];
+                }
+            }
+            return MISSING;
+        }
+    }
+
+    private static final class EnumTable extends ConstantTable {
+        private final Class<?> enumClass;
+        private final int[] slots;
+
+        EnumTable(List<Object> keys, List<Integer> cases, Class<?> enumClass) {
+            this.enumClass = enumClass;
+            this.slots = emptySlots(enumClass.getEnumConstants().length);
+            for (int i = 0; i < keys.size(); i++) {
+                int slot = ((Enum<?>) keys.get(i)).ordinal();
+                slots[slot] = Math.min(slots[slot], cases.get(i));
+            }
+        }
+
+        @Override
+        int lookup(Object value) {
+            if (value instanceof Enum<?> e && e.getDeclaringClass() == enumClass) {
+                return slots[e.ordinal()];
+            }
+            return MISSING;
+        }
+    }
+
+    private static final class HashTable extends ConstantTable {
+        private final Map<Object, Integer> slots = new HashMap<>();
+
+        HashTable(List<Object> keys, List<Integer> cases) {
+            for (int i = 0; i < keys.size(); i++) {
+                slots.merge(keys.get(i), cases.get(i), Math::min);
+            }
+        }
+
+        @Override
+        int lookup(Object value) {
+            Integer slot = slots.get(value);
+            return slot == null ? MISSING : slot;
+        }
+    }
+}
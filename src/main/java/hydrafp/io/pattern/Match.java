@@ -22,6 +22,26 @@ public class Match<T> {
         return new Match<>(value);
     }
 
+    public static <T, R> Matcher.Builder<T, R> compile() {
+        return Matcher.builder();
+    }
+
+    public static <A, R> SealedMatcher.OptionCases<A, R> onOption() {
+        return new SealedMatcher.OptionCases<>();
+    }
+
+    public static <L, A, R> SealedMatcher.EitherCases<L, A, R> onEither() {
+        return new SealedMatcher.EitherCases<>();
+    }
+
+    public static <A, R> SealedMatcher.TryCases<A, R> onTry() {
+        return new SealedMatcher.TryCases<>();
+    }
+
+    public static <S, R> SealedMatcher.SealedCases<S, R> onSealed(Class<S> sealedType) {
+        return new SealedMatcher.SealedCases<>(sealedType);
+    }
+
     public <R> WhenClause<T, R> when(T caseValue) {
         return when(v -> v.equals(caseValue));
     }
@@ -123,11 +143,8 @@ public class Match<T> {
 
         public <U> Match<T> then(Function1<? super L, ? extends U> mapper) {
             match.addCase(
-                    v -> v instanceof Either && ((Either<?, ?>) v).isLeft() && leftType.isInstance(((Either<?, ?>) v).fold(l -> l, r -> r)),
-                    v -> {
-                        Either<L, R> either = (Either<L, R>) v;
-                        return either.fold(mapper, r -> null);
-                    }
+                    v -> v instanceof Either && ((Either<?, ?>) v).isLeft() && leftType.isInstance(((Either<?, ?>) v).getLeft()),
+                    v -> mapper.apply(((Either<L, R>) v).getLeft())
             );
             return match;
         }
@@ -144,11 +161,8 @@ public class Match<T> {
 
         public <U> Match<T> then(Function1<? super R, ? extends U> mapper) {
             match.addCase(
-                    v -> v instanceof Either && !((Either<?, ?>) v).isLeft() && rightType.isInstance(((Either<?, ?>) v).fold(l -> l, r -> r)),
-                    v -> {
-                        Either<L, R> either = (Either<L, R>) v;
-                        return either.fold(l -> null, mapper);
-                    }
+                    v -> v instanceof Either && ((Either<?, ?>) v).isRight() && rightType.isInstance(((Either<?, ?>) v).getRight()),
+                    v -> mapper.apply(((Either<L, R>) v).getRight())
             );
             return match;
         }
@@ -0,0 +1,199 @@
+package hydrafp.io.pattern;
+
+import hydrafp.io.core.adt.Option;
+import hydrafp.io.core.functions.Function1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+
+public final class Matcher<T, R> implements Function1<T, R> {
+    private static final int NO_MATCH = ConstantTable.MISSING;
+
+    private final ConstantTable constants;
+    private final Class<?>[] types;
+    private final int[] typeCases;
+    private final Predicate<T>[] predicates;
+    private final int[] predicateCases;
+    private final Function1<Object, R>[] handlers;
+    private final Function1<T, R> otherwise;
+    private final ClassValue<Integer> typeDispatch = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < types.length; i++) {
+                if (types[i].isAssignableFrom(type)) {
+                    return typeCases[i];
+                }
+            }
+            return NO_MATCH;
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    private Matcher(Builder<T, R> builder) {
+        List<Object> constants = new ArrayList<>();
+        List<Integer> constantCases = new ArrayList<>();
+        List<Class<?>> types = new ArrayList<>();
+        List<Integer> typeCases = new ArrayList<>();
+        List<Predicate<T>> predicates = new ArrayList<>();
+        List<Integer> predicateCases = new ArrayList<>();
+        for (int i = 0; i < builder.cases.size(); i++) {
+            Case<T, R> case_ = builder.cases.get(i);
+            if (case_.constant != null) {
+                constants.add(case_.constant);
+                constantCases.add(i);
+            } else if (case_.type != null) {
+                types.add(case_.type);
+                typeCases.add(i);
+            } else {
+                predicates.add(case_.predicate);
+                predicateCases.add(i);
+            }
+        }
+        this.constants = ConstantTable.of(constants, constantCases);
+        this.types = types.toArray(new Class<?>[0]);
+        this.typeCases = typeCases.stream().mapToInt(Integer::intValue).toArray();
+        this.predicates = (Predicate<T>[]) predicates.toArray(new Predicate<?>[0]);
+        this.predicateCases = predicateCases.stream().mapToInt(Integer::intValue).toArray();
+        this.handlers = builder.cases.stream().map(c -> c.handler).toArray(Function1[]::new);
+        this.otherwise = builder.otherwise;
+    }
+
+    public static <T, R> Builder<T, R> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public R apply(T value) {
+        int matched = dispatch(value);
+        if (matched != NO_MATCH) {
+            return handlers[matched].apply(value);
+        }
+        if (otherwise != null) {
+            return otherwise.apply(value);
+        }
+        throw new IllegalStateException("No matching case found and no otherwise case provided");
+    }
+
+    public Option<R> match(T value) {
+        int matched = dispatch(value);
+        if (matched != NO_MATCH) {
+            return Option.of(handlers[matched].apply(value));
+        }
+        if (otherwise != null) {
+            return Option.of(otherwise.apply(value));
+        }
+        return Option.none();
+    }
+
+    private int dispatch(T value) {
+        int best = NO_MATCH;
+        if (value != null) {
+            best = constants.lookup(value);
+            if (types.length > 0) {
+                best = Math.min(best, typeDispatch.get(value.getClass()));
+            }
+        }
+        for (int i = 0; i < predicates.length && predicateCases[i] < best; i++) {
+            if (predicates[i].test(value)) {
+                return predicateCases[i];
+            }
+        }
+        return best;
+    }
+
+    private static final class Case<T, R> {
+        final Object constant;
+        final Class<?> type;
+        final Predicate<T> predicate;
+        final Function1<Object, R> handler;
+
+        Case(Object constant, Class<?> type, Predicate<T> predicate, Function1<Object, R> handler) {
+            this.constant = constant;
+            this.type = type;
+            this.predicate = predicate;
+            this.handler = handler;
+        }
+    }
+
+    public static final class Builder<T, R> {
+        private final List<Case<T, R>> cases = new ArrayList<>();
+        private Function1<T, R> otherwise;
+
+        private Builder() {
+        }
+
+        public WhenClause<T, R> when(T caseValue) {
+            Objects.requireNonNull(caseValue, "caseValue must not be null");
+            return new WhenClause<>(this, caseValue, null);
+        }
+
+        public WhenClause<T, R> when(Predicate<T> predicate) {
+            Objects.requireNonNull(predicate, "predicate must not be null");
+            return new WhenClause<>(this, null, predicate);
+        }
+
+        public <S> TypeWhenClause<T, S, R> whenType(Class<S> type) {
+            Objects.requireNonNull(type, "type must not be null");
+            return new TypeWhenClause<>(this, type);
+        }
+
+        public Builder<T, R> otherwise(R defaultValue) {
+            return otherwise(ignored -> defaultValue);
+        }
+
+        public Builder<T, R> otherwise(Function1<T, R> mapper) {
+            this.otherwise = Objects.requireNonNull(mapper, "mapper must not be null");
+            return this;
+        }
+
+        public Matcher<T, R> build() {
+            return new Matcher<>(this);
+        }
+
+        private void addCase(Case<T, R> case_) {
+            cases.add(case_);
+        }
+    }
+
+    public static final class WhenClause<T, R> {
+        private final Builder<T, R> builder;
+        private final Object constant;
+        private final Predicate<T> predicate;
+
+        private WhenClause(Builder<T, R> builder, Object constant, Predicate<T> predicate) {
+            this.builder = builder;
+            this.constant = constant;
+            this.predicate = predicate;
+        }
+
+        public Builder<T, R> then(R result) {
+            return then(ignored -> result);
+        }
+
+        @SuppressWarnings("unchecked")
+        public Builder<T, R> then(Function1<T, R> mapper) {
+            Objects.requireNonNull(mapper, "mapper must not be null");
+            builder.addCase(new Case<>(constant, null, predicate, v -> mapper.apply((T) v)));
+            return builder;
+        }
+    }
+
+    public static final class TypeWhenClause<T, S, R> {
+        private final Builder<T, R> builder;
+        private final Class<S> type;
+
+        private TypeWhenClause(Builder<T, R> builder, Class<S> type) {
+            this.builder = builder;
+            this.type = type;
+        }
+
+        public Builder<T, R> then(Function1<S, R> mapper) {
+            Objects.requireNonNull(mapper, "mapper must not be null");
+            builder.addCase(new Case<>(null, type, null, v -> mapper.apply(type.cast(v))));
+            return builder;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package hydrafp.io.pattern;
+
+import hydrafp.io.core.adt.Either;
+import hydrafp.io.core.adt.Option;
+import hydrafp.io.core.adt.Try;
+import hydrafp.io.core.functions.Function1;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+
+public final class SealedMatcher<T, R> implements Function1<T, R> {
+    private final ToIntFunction<? super T> tag;
+    private final Function1<? super T, ? extends R>[] handlers;
+
+    private SealedMatcher(ToIntFunction<? super T> tag, Function1<? super T, ? extends R>[] handlers) {
+        this.tag = tag;
+        this.handlers = handlers;
+    }
+
+    @Override
+    public R apply(T value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return handlers[tag.applyAsInt(value)].apply(value);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    private static <T, R> Function1<T, R>[] handlers(Function1<T, R>... handlers) {
+        return handlers;
+    }
+
+    private static IllegalStateException nonExhaustive(String missing) {
+        return new IllegalStateException("Non-exhaustive match, missing case for " + missing);
+    }
+
+    public static final class OptionCases<A, R> {
+        private Function1<? super A, ? extends R> some;
+        private Supplier<? extends R> none;
+
+        OptionCases() {
+        }
+
+        public OptionCases<A, R> some(Function1<? super A, ? extends R> mapper) {
+            this.some = Objects.requireNonNull(mapper, "mapper must not be null");
+            return this;
+        }
+
+        public OptionCases<A, R> none(Supplier<? extends R> result) {
+            this.none = Objects.requireNonNull(result, "result must not be null");
+            return this;
+        }
+
+        public SealedMatcher<Option<A>, R> build() {
+            if (some == null) throw nonExhaustive("Some");
+            if (none == null) throw nonExhaustive("None");
+            Function1<? super A, ? extends R> some = this.some;
+            Supplier<? extends R> none = this.none;
+            Function1<Option<A>, R>[] handlers = handlers(
+                    option -> none.get(),
+                    option -> some.apply(option.get())
+            );
+            return new SealedMatcher<>(Option::ordinal, handlers);
+        }
+    }
+
+    public static final class EitherCases<L, A, R> {
+        private Function1<? super L, ? extends R> left;
+        private Function1<? super A, ? extends R> right;
+
+        EitherCases() {
+        }
+
+        public EitherCases<L, A, R> left(Function1<? super L, ? extends R> mapper) {
+            this.left = Objects.requireNonNull(mapper, "mapper must not be null");
+            return this;
+        }
+
+        public EitherCases<L, A, R> right(Function1<? super A, ? extends R> mapper) {
+            this.right = Objects.requireNonNull(mapper, "mapper must not be null");
+            return this;
+        }
+
+        public SealedMatcher<Either<L, A>, R> build() {
+            if (left == null) throw nonExhaustive("Left");
+            if (right == null) throw nonExhaustive("Right");
+            Function1<? super L, ? extends R> left = this.left;
+            Function1<? super A, ? extends R> right = this.right;
+            Function1<Either<L, A>, R>[] handlers = handlers(
+                    either -> left.apply(either.getLeft()),
+                    either -> right.apply(either.getRight())
+            );
+            return new SealedMatcher<>(Either::ordinal, handlers);
+        }
+    }
+
+    public static final class TryCases<A, R> {
+        private Function1<? super A, ? extends R> success;
+        private Function1<? super Throwable, ? extends R> failure;
+
+        TryCases() {
+        }
+
+        public TryCases<A, R> success(Function1<? super A, ? extends R> mapper) {
+            this.success = Objects.requireNonNull(mapper, "mapper must not be null");
+            return this;
+        }
+
+        public TryCases<A, R> failure(Function1<? super Throwable, ? extends R> mapper) {
+            this.failure = Objects.requireNonNull(mapper, "mapper must not be null");
+            return this;
+        }
+
+        public SealedMatcher<Try<A>, R> build() {
+            if (success == null) throw nonExhaustive("Success");
+            if (failure == null) throw nonExhaustive("Failure");
+            Function1<? super A, ? extends R> success = this.success;
+            Function1<? super Throwable, ? extends R> failure = this.failure;
+            Function1<Try<A>, R>[] handlers = handlers(
+                    attempt -> failure.apply(attempt.getFailure()),
+                    attempt -> success.apply(attempt.get())
+            );
+            return new SealedMatcher<>(Try::ordinal, handlers);
+        }
+    }
+
+    public static final class SealedCases<S, R> {
+        private final Class<S> sealedType;
+        private final List<Class<?>> types = new ArrayList<>();
+        private final List<Function1<Object, ? extends R>> handlers = new ArrayList<>();
+
+        SealedCases(Class<S> sealedType) {
+            Objects.requireNonNull(sealedType, "sealedType must not be null");
+            if (!sealedType.isSealed()) {
+                throw new IllegalArgumentException(sealedType.getName() + " is not a sealed type");
+            }
+            this.sealedType = sealedType;
+        }
+
+        public <X extends S> SealedCases<S, R> on(Class<X> type, Function1<? super X, ? extends R> mapper) {
+            Objects.requireNonNull(type, "type must not be null");
+            Objects.requireNonNull(mapper, "mapper must not be null");
+            types.add(type);
+            handlers.add(value -> mapper.apply(type.cast(value)));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public SealedMatcher<S, R> build() {
+            checkExhaustive(sealedType);
+            Class<?>[] types = this.types.toArray(new Class<?>[0]);
+            ClassValue<Integer> dispatch = new ClassValue<>() {
+                @Override
+                protected Integer computeValue(Class<?> type) {
+                    for (int i = 0; i < types.length; i++) {
+                        if (types[i].isAssignableFrom(type)) {
+                            return i;
+                        }
+                    }
+                    throw nonExhaustive(type.getName());
+                }
+            };
+            return new SealedMatcher<>(value -> dispatch.get(value.getClass()),
+                    (Function1<? super S, ? extends R>[]) handlers.toArray(new Function1<?, ?>[0]));
+        }
+
+        private void checkExhaustive(Class<?> type) {
+            if (isCovered(type)) {
+                return;
+            }
+            boolean instantiable = !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+            if (instantiable || !type.isSealed()) {
+                throw nonExhaustive(type.getName());
+            }
+            for (Class<?> permitted : type.getPermittedSubclasses()) {
+                checkExhaustive(permitted);
+            }
+        }
+
+        private boolean isCovered(Class<?> type) {
+            for (Class<?> covered : types) {
+                if (covered.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package hydrafp.io.pattern;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -19,6 +21,10 @@ public class When<T> {
         return new When<>(subject);
     }
 
+    public static <T, R> Cases<T, R> cases() {
+        return new Cases<>();
+    }
+
     public <R> When<T> is(Object value, Supplier<R> result) {
         cases.add(new Case<>(obj -> obj.equals(value), result));
         return this;
@@ -55,4 +61,75 @@ public class When<T> {
             this.result = result;
         }
     }
-}
\ No newline at end of file
+
+    public static final class Cases<T, R> {
+        private final List<Object> constants = new ArrayList<>();
+        private final List<Integer> constantCases = new ArrayList<>();
+        private final List<Predicate<T>> predicates = new ArrayList<>();
+        private final List<Integer> predicateCases = new ArrayList<>();
+        private final List<Supplier<? extends R>> results = new ArrayList<>();
+        private Supplier<? extends R> elseCase;
+
+        private Cases() {
+        }
+
+        public Cases<T, R> is(Object value, Supplier<? extends R> result) {
+            Objects.requireNonNull(value, "value must not be null");
+            constants.add(value);
+            constantCases.add(results.size());
+            results.add(Objects.requireNonNull(result, "result must not be null"));
+            return this;
+        }
+
+        public Cases<T, R> is(Predicate<T> predicate, Supplier<? extends R> result) {
+            predicates.add(Objects.requireNonNull(predicate, "predicate must not be null"));
+            predicateCases.add(results.size());
+            results.add(Objects.requireNonNull(result, "result must not be null"));
+            return this;
+        }
+
+        public Cases<T, R> elseIs(Supplier<? extends R> result) {
+            this.elseCase = Objects.requireNonNull(result, "result must not be null");
+            return this;
+        }
+
+        public Function<T, R> build() {
+            return new Compiled<>(this);
+        }
+    }
+
+    private static final class Compiled<T, R> implements Function<T, R> {
+        private final ConstantTable constants;
+        private final Predicate<T>[] predicates;
+        private final int[] predicateCases;
+        private final Supplier<? extends R>[] results;
+        private final Supplier<? extends R> elseCase;
+
+        @SuppressWarnings("unchecked")
+        private Compiled(Cases<T, R> cases) {
+            this.constants = ConstantTable.of(new ArrayList<>(cases.constants), new ArrayList<>(cases.constantCases));
+            this.predicates = (Predicate<T>[]) cases.predicates.toArray(new Predicate<?>[0]);
+            this.predicateCases = cases.predicateCases.stream().mapToInt(Integer::intValue).toArray();
+            this.results = (Supplier<? extends R>[]) cases.results.toArray(new Supplier<?>[0]);
+            this.elseCase = cases.elseCase;
+        }
+
+        @Override
+        public R apply(T subject) {
+            int best = subject == null ? ConstantTable.MISSING : constants.lookup(subject);
+            for (int i = 0; i < predicates.length && predicateCases[i] < best; i++) {
+                if (predicates[i].test(subject)) {
+                    best = predicateCases[i];
+                    break;
+                }
+            }
+            if (best != ConstantTable.MISSING) {
+                return results[best].get();
+            }
+            if (elseCase != null) {
+                return elseCase.get();
+            }
+            throw new IllegalStateException("No matching case found and no else case provided");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package hydrafp.io;
+
+import hydrafp.io.core.adt.Either;
+import hydrafp.io.core.adt.Option;
+import hydrafp.io.core.adt.Try;
+import hydrafp.io.core.collections.ImmutableList;
+import hydrafp.io.core.effect.Effect;
+import hydrafp.io.core.effect.Effects;
+import hydrafp.io.core.tagged.Tagged;
+import hydrafp.io.core.tagged.TaggedLong;
+import hydrafp.io.core.tco.TailRec;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationBudgetTest {
+
+    private static final Option<Integer> SOME = Option.some(21);
+    private static final Either<String, Integer> RIGHT = Either.right(21);
+    private static final Either<String, Integer> LEFT = Either.left("missing");
+    private static final Try<Integer> FAILURE = Try.failure(new IllegalStateException("boom"));
+    private static final Effect<Integer> PURE = Effects.pure(21);
+    private static final Tagged<String, String> TAGGED = Tagged.of("user-42");
+    private static final ImmutableList<Integer> LARGE_LIST = ImmutableList.of(1_000, 2_000, 3_000, 4_000, 5_000,
+            6_000, 7_000, 8_000, 9_000, 10_000);
+
+    @BeforeAll
+    static void requireAllocationCounters() {
+        assumeTrue(AllocationMeter.isSupported(), "per-thread allocation counters are not available");
+    }
+
+    private static void assertWithinBudget(long budgetBytes, Supplier<?> operation) {
+        double allocated = AllocationMeter.bytesPerCall(operation);
+        assertTrue(allocated <= budgetBytes,
+                "allocated " + allocated + " bytes per call, budget is " + budgetBytes);
+    }
+
+    @Test
+    @DisplayName("Option.map on Some allocates at most the new Some")
+    void optionMapOnSome() {
+        assertWithinBudget(16, () -> SOME.map(i -> i + 1));
+    }
+
+    @Test
+    @DisplayName("Option.flatMap returning a constant does not allocate")
+    void optionFlatMapToNone() {
+        assertWithinBudget(0, () -> SOME.flatMap(i -> Option.<Integer>none()));
+    }
+
+    @Test
+    @DisplayName("Either.flatMap on Right allocates at most the new Right")
+    void eitherFlatMapOnRight() {
+        assertWithinBudget(16, () -> RIGHT.flatMap(i -> Either.right(i + 1)));
+    }
+
+    @Test
+    @DisplayName("Wrapping a cached value or returning a unit singleton does not allocate")
+    void cachedInstances() {
+        assertWithinBudget(0, () -> Option.some(Boolean.TRUE));
+        assertWithinBudget(0, () -> Either.right(0));
+        assertWithinBudget(0, () -> Try.unit());
+        assertWithinBudget(0, () -> RIGHT.map(i -> i - 21));
+    }
+
+    @Test
+    @DisplayName("Tagged.hashCode and TaggedLong hashing do not allocate")
+    void taggedHashing() {
+        assertWithinBudget(0, () -> TAGGED.hashCode() == 0);
+        assertWithinBudget(0, () -> TaggedLong.of(42).hashCode() == 0);
+    }
+
+    @Test
+    @DisplayName("Either.map on Left does not allocate")
+    void eitherMapOnLeft() {
+        assertWithinBudget(0, () -> LEFT.map(i -> i + 1));
+    }
+
+    @Test
+    @DisplayName("Try.map on Failure does not allocate")
+    void tryMapOnFailure() {
+        assertWithinBudget(0, () -> FAILURE.map(i -> i + 1));
+    }
+
+    @Test
+    @DisplayName("ImmutableList.foldLeft allocates nothing per element")
+    void immutableListFoldLeft() {
+        // The running total lives in a primitive field, so no boxing happens whatever the JIT does
+        // and however far the sum grows past the Integer cache.
+        Sum sum = new Sum();
+        assertWithinBudget(0, () -> LARGE_LIST.foldLeft(sum, Sum::add));
+        assertTrue(sum.total > 0);
+    }
+
+    private static final class Sum {
+        long total;
+
+        Sum add(int value) {
+            total += value;
+            return this;
+        }
+    }
+
+    @Test
+    @DisplayName("PureEffect.map allocates at most the new PureEffect")
+    void pureEffectMap() {
+        assertWithinBudget(16, () -> PURE.map(i -> i + 1));
+    }
+
+    @Test
+    @DisplayName("Running a completed TailRec allocates only the node and its result")
+    void tailRecRunDone() {
+        assertWithinBudget(32, () -> TailRec.pure(1).run());
+    }
+}
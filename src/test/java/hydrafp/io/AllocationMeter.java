@@ -0,0 +1,48 @@
+package hydrafp.io;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Measures the bytes allocated per call of an operation on the current thread.
+ * The operation is warmed up first so the result reflects compiled code, and the best of several
+ * rounds is reported so that one-off allocations (class loading, JIT, TLAB refills) are not counted.
+ */
+final class AllocationMeter {
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 10_000;
+    private static final int ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    static volatile Object sink;
+
+    private AllocationMeter() {
+    }
+
+    static boolean isSupported() {
+        return THREADS != null && THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    static double bytesPerCall(Supplier<?> operation) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink = operation.get();
+        }
+        long thread = Thread.currentThread().getId();
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = THREADS.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                sink = operation.get();
+            }
+            long after = THREADS.getThreadAllocatedBytes(thread);
+            best = Math.min(best, (double) (after - before) / MEASURED_CALLS);
+        }
+        return best;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) bean : null;
+    }
+}
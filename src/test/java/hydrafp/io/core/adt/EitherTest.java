@@ -338,4 +338,35 @@ class EitherTest {
         assertTrue(result.isLeft());
         assertEquals("Error", result.getLeft());
     }
-}
\ No newline at end of file
+
+    private enum Error { MISSING, INVALID }
+
+    @Test
+    void left_sharesInstancesForEnumConstants() {
+        assertSame(Either.left(Error.MISSING), Either.left(Error.MISSING));
+        assertNotSame(Either.left(Error.MISSING), Either.left(Error.INVALID));
+        assertEquals(Error.INVALID, Either.left(Error.INVALID).getLeft());
+    }
+
+    @Test
+    void right_sharesInstancesForCommonValues() {
+        assertSame(Either.right(-128), Either.right(-128));
+        assertSame(Either.right(127L), Either.right(127L));
+        assertNotSame(Either.right(128), Either.right(128));
+        assertSame(Either.left(1).swap(), Either.right(1));
+    }
+
+    @Test
+    void unit_returnsSingletonRight() {
+        assertSame(Either.<String>unit(), Either.<Integer>unit());
+        assertEquals(Unit.INSTANCE, Either.unit().getRight());
+    }
+
+    @Test
+    void leftNoTrace_returnsFreshStacklessError() {
+        Either<Throwable, Integer> result = Either.leftNoTrace("missing");
+        assertTrue(result.isLeft());
+        assertEquals(0, result.getLeft().getStackTrace().length);
+        assertNotSame(result.getLeft(), Either.leftNoTrace("missing").getLeft());
+    }
+}
@@ -240,4 +240,27 @@ class OptionTest {
         Option<Integer> none = Option.none();
         assertEquals("None", none.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void some_sharesInstancesForCommonValues() {
+        assertSame(Option.some(true), Option.some(true));
+        assertSame(Option.some(7), Option.some(7));
+        assertSame(Option.some(""), Option.some(""));
+        assertSame(Option.some(7).map(i -> i + 1), Option.some(8));
+    }
+
+    @Test
+    void some_allocatesForOtherValues() {
+        assertNotSame(Option.some(1000), Option.some(1000));
+        assertEquals(Option.some(1000), Option.some(1000));
+    }
+
+    @Test
+    void map_rejectsNullMapperOnSomeAndNone() {
+        NullPointerException onSome = assertThrows(NullPointerException.class, () -> Option.some(1).map(null));
+        assertEquals("mapper must not be null", onSome.getMessage());
+        assertThrows(NullPointerException.class, () -> Option.none().map(null));
+        assertThrows(NullPointerException.class, () -> Option.some(1).flatMap(null));
+        assertThrows(NullPointerException.class, () -> Option.none().flatMap(null));
+    }
+}
@@ -0,0 +1,133 @@
+package hydrafp.io.core.adt;
+
+import hydrafp.io.core.functions.Function1;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineTest {
+
+    private static Option<Integer> parse(String s) {
+        try {
+            return Option.some(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return Option.none();
+        }
+    }
+
+    @Test
+    void option_appliesStepsInOrder() {
+        Pipeline.OfOption<String, Integer> pipeline = Pipeline.<String>forOption()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .flatMap(PipelineTest::parse)
+                .map(i -> i * 2);
+
+        assertEquals(Option.some(84), pipeline.apply(" 42 "));
+        assertEquals(Option.none(), pipeline.apply("   "));
+        assertEquals(Option.none(), pipeline.apply("x"));
+        assertEquals(Option.none(), pipeline.apply(null));
+    }
+
+    @Test
+    void option_shortCircuitsAfterNone() {
+        AtomicInteger calls = new AtomicInteger();
+        Pipeline.OfOption<Integer, Integer> pipeline = Pipeline.<Integer>forOption()
+                .map(i -> (Integer) null)
+                .map(i -> calls.incrementAndGet());
+
+        assertEquals(Option.none(), pipeline.apply(1));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void option_matchesEquivalentChain() {
+        Function1<Integer, Option<Integer>> fused = Pipeline.<Integer>forOption()
+                .map(i -> i + 1)
+                .filter(i -> i % 2 == 0)
+                .flatMap(i -> Option.some(i * 3));
+        for (int i = 0; i < 10; i++) {
+            int input = i;
+            Option<Integer> chained = Option.some(input).map(x -> x + 1).filter(x -> x % 2 == 0).flatMap(x -> Option.some(x * 3));
+            assertEquals(chained, fused.apply(input));
+        }
+    }
+
+    @Test
+    void option_applyToSkipsNone() {
+        Pipeline.OfOption<Integer, Integer> pipeline = Pipeline.<Integer>forOption().map(i -> i + 1);
+        assertEquals(Option.some(2), pipeline.applyTo(Option.some(1)));
+        assertEquals(Option.none(), pipeline.applyTo(Option.none()));
+    }
+
+    @Test
+    void either_returnsFirstLeft() {
+        Pipeline.OfEither<String, String, Integer> pipeline = Pipeline.<String, String>forEither()
+                .filterOrElse(s -> !s.isEmpty(), s -> "empty")
+                .flatMap(s -> s.chars().allMatch(Character::isDigit) ? Either.right(Integer.parseInt(s)) : Either.left("not a number: " + s))
+                .filterOrElse(i -> i < 100, i -> "too large: " + i)
+                .map(i -> i + 1);
+
+        assertEquals(Either.right(43), pipeline.apply("42"));
+        assertEquals(Either.left("empty"), pipeline.apply(""));
+        assertEquals(Either.left("not a number: x"), pipeline.apply("x"));
+        assertEquals(Either.left("too large: 500"), pipeline.apply("500"));
+    }
+
+    @Test
+    void either_applyToPassesLeftThrough() {
+        Either<String, Integer> left = Either.left("missing");
+        Pipeline.OfEither<String, Integer, Integer> pipeline = Pipeline.<String, Integer>forEither().map(i -> i + 1);
+        assertSame(left, pipeline.applyTo(left));
+        assertEquals(Either.right(2), pipeline.applyTo(Either.right(1)));
+    }
+
+    @Test
+    void either_rejectsNullStepResults() {
+        NullPointerException mapped = assertThrows(NullPointerException.class,
+                () -> Pipeline.<String, Integer>forEither().map(i -> (Integer) null).apply(1));
+        assertEquals("Right value must not be null", mapped.getMessage());
+        NullPointerException left = assertThrows(NullPointerException.class,
+                () -> Pipeline.<String, Integer>forEither().filterOrElse(i -> false, i -> null).apply(1));
+        assertEquals("Left value must not be null", left.getMessage());
+
+        Function1<Integer, Either<String, Integer>> missing = i -> null;
+        assertThrows(NullPointerException.class, () -> Either.<String, Integer>right(1).flatMap(missing).map(i -> i + 1));
+        assertThrows(NullPointerException.class,
+                () -> Pipeline.<String, Integer>forEither().flatMap(missing).map(i -> i + 1).apply(1));
+    }
+
+    @Test
+    void try_capturesExceptionsAsFailure() {
+        Pipeline.OfTry<String, Integer> pipeline = Pipeline.<String>forTry()
+                .map(Integer::parseInt)
+                .filter(i -> i > 0)
+                .map(i -> 100 / i);
+
+        assertEquals(Try.success(25), pipeline.apply("4"));
+        assertInstanceOf(NumberFormatException.class, pipeline.apply("x").getFailure());
+        assertInstanceOf(NoSuchElementException.class, pipeline.apply("-1").getFailure());
+    }
+
+    @Test
+    void try_returnsFailureFromFlatMap() {
+        IllegalStateException error = new IllegalStateException("boom");
+        Pipeline.OfTry<Integer, Integer> pipeline = Pipeline.<Integer>forTry()
+                .flatMap(i -> Try.<Integer>failure(error))
+                .map(i -> i + 1);
+
+        assertSame(error, pipeline.apply(1).getFailure());
+        assertInstanceOf(NullPointerException.class,
+                Pipeline.<Integer>forTry().flatMap(i -> (Try<Integer>) null).apply(1).getFailure());
+    }
+
+    @Test
+    void pipelinesAreImmutable() {
+        Pipeline.OfOption<Integer, Integer> base = Pipeline.<Integer>forOption().map(i -> i + 1);
+        base.map(i -> i * 100);
+        assertEquals(Option.some(2), base.apply(1));
+    }
+}
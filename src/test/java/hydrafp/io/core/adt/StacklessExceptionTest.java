@@ -0,0 +1,44 @@
+package hydrafp.io.core.adt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StacklessExceptionTest {
+
+    @Test
+    void hasNoStackTrace() {
+        StacklessException error = new StacklessException("invalid digit");
+        assertEquals(0, error.getStackTrace().length);
+        error.fillInStackTrace();
+        assertEquals(0, error.getStackTrace().length);
+    }
+
+    @Test
+    void keepsCause() {
+        IllegalStateException cause = new IllegalStateException("root");
+        assertSame(cause, new StacklessException("wrapped", cause).getCause());
+    }
+
+    @Test
+    void preallocatedInstancesAreNotInternedAndAreImmutable() {
+        StacklessException error = StacklessException.preallocated("empty input");
+        assertNotSame(error, StacklessException.preallocated("empty input"));
+
+        error.addSuppressed(new RuntimeException("ignored"));
+        assertEquals(0, error.getSuppressed().length);
+        assertThrows(IllegalStateException.class, () -> error.initCause(new RuntimeException()));
+    }
+
+    @Test
+    void catchingAStacklessThrowYieldsTheSameInstance() {
+        StacklessException error = StacklessException.preallocated("bad input");
+        Try<Integer> result = Try.of(() -> {
+            throw error;
+        });
+        assertSame(error, result.getFailure());
+        assertSame(error, Either.catching(() -> {
+            throw error;
+        }, t -> t).getLeft());
+    }
+}
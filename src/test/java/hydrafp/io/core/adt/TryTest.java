@@ -339,4 +339,28 @@ class TryTest {
     void fromEither_throwsNullPointerExceptionForNullEither() {
         assertThrows(NullPointerException.class, () -> Try.fromEither(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    void success_sharesInstancesForCommonValues() {
+        assertSame(Try.success(false), Try.success(false));
+        assertSame(Try.success(0), Try.of(() -> 0));
+        assertEquals(Try.success(null), Try.success(null));
+    }
+
+    @Test
+    void unit_returnsSingletonSuccess() {
+        assertSame(Try.unit(), Try.unit());
+        assertSame(Try.unit(), Try.success(Unit.INSTANCE));
+        assertEquals("()", Try.unit().get().toString());
+    }
+
+    @Test
+    void failFast_returnsFailureWithoutStackTrace() {
+        Try<Integer> result = Try.failFast("not a number");
+        assertTrue(result.isFailure());
+        assertInstanceOf(StacklessException.class, result.getFailure());
+        assertEquals("not a number", result.getFailure().getMessage());
+        assertEquals(0, result.getFailure().getStackTrace().length);
+        assertNotSame(result.getFailure(), Try.failFast("not a number").getFailure());
+    }
+}
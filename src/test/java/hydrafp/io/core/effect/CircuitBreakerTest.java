@@ -0,0 +1,142 @@
+package hydrafp.io.core.effect;
+
+import hydrafp.io.core.adt.Try;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicBoolean healthy = new AtomicBoolean();
+    private SimpleRuntime runtime;
+    private CircuitBreaker breaker;
+    private Effect<String> call;
+
+    @BeforeEach
+    void setUp() {
+        runtime = new SimpleRuntime(1);
+        breaker = new CircuitBreaker(3, Duration.ofSeconds(10), now::get);
+        call = breaker.protect(Effects.fromIO(r -> {
+            calls.incrementAndGet();
+            if (!healthy.get()) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+            return "ok";
+        }));
+    }
+
+    @AfterEach
+    void tearDown() {
+        runtime.shutdown();
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertInstanceOf(IllegalStateException.class, call.attempt(runtime).getFailure());
+        }
+    }
+
+    @Test
+    @DisplayName("Opens after consecutive failures and then fails fast without calling through")
+    void opensAfterThreshold() {
+        failTimes(3);
+        assertEquals(CircuitBreaker.Status.OPEN, breaker.status());
+
+        Try<String> rejected = call.attempt(runtime);
+        assertInstanceOf(CircuitBreaker.OpenException.class, rejected.getFailure());
+        assertEquals(0, rejected.getFailure().getStackTrace().length);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("A success resets the consecutive failure count")
+    void successResetsFailures() {
+        failTimes(2);
+        healthy.set(true);
+        assertEquals("ok", call.unsafeRunSync(runtime));
+        healthy.set(false);
+        failTimes(2);
+        assertEquals(CircuitBreaker.Status.CLOSED, breaker.status());
+    }
+
+    @Test
+    @DisplayName("After the reset timeout a successful probe closes the breaker")
+    void probeClosesBreaker() {
+        failTimes(3);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        healthy.set(true);
+
+        assertEquals("ok", call.unsafeRunSync(runtime));
+        assertEquals(CircuitBreaker.Status.CLOSED, breaker.status());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    @DisplayName("A failed probe reopens the breaker for another timeout")
+    void failedProbeReopens() {
+        failTimes(3);
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        failTimes(1);
+        assertEquals(CircuitBreaker.Status.OPEN, breaker.status());
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertInstanceOf(CircuitBreaker.OpenException.class, call.attempt(runtime).getFailure());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    @DisplayName("Retries through an open breaker are rejected without reaching the dependency")
+    void composesWithRetry() {
+        Effect<String> retried = Effects.retry(call, Schedule.recurs(5));
+        assertInstanceOf(CircuitBreaker.OpenException.class, retried.attempt(runtime).getFailure());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("Asynchronous runs update the breaker and a protected retry does not hold the executor")
+    void asyncRuns() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ExecutionException.class, () -> call.runAsync(runtime).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(CircuitBreaker.Status.OPEN, breaker.status());
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> call.runAsync(runtime).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CircuitBreaker.OpenException.class, rejected.getCause());
+        assertEquals(3, calls.get());
+
+        CircuitBreaker other = CircuitBreaker.of(3, Duration.ofSeconds(10));
+        AtomicInteger attempts = new AtomicInteger();
+        Effect<String> retried = other.protect(Effects.retry(Effects.fromIO(r -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("first attempt");
+            }
+            return "ok";
+        }), Schedule.fixed(Duration.ofMillis(300)).maxRetries(1)));
+
+        CompletableFuture<String> result = retried.runAsync(runtime);
+        assertEquals(2, Effects.delay(() -> 2).runAsync(runtime).get(200, TimeUnit.MILLISECONDS));
+        assertFalse(result.isDone());
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.Status.CLOSED, other.status());
+    }
+
+    @Test
+    @DisplayName("Invalid settings are rejected")
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of(1, Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,110 @@
+package hydrafp.io.core.effect;
+
+import hydrafp.io.core.adt.Try;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EffectTracingTest {
+
+    private SimpleRuntime runtime;
+    private EffectTracing.Mode previous;
+
+    @BeforeEach
+    void setUp() {
+        runtime = new SimpleRuntime(1);
+        previous = EffectTracing.mode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        EffectTracing.setMode(previous);
+        runtime.shutdown();
+    }
+
+    private static Effect<Integer> failingChain() {
+        return Effects.delay(() -> 1)
+                .map(i -> i + 1)
+                .flatMap(i -> Effects.delay(() -> i * 2))
+                .map(i -> {
+                    if (i > 0) throw new IllegalStateException("boom");
+                    return i;
+                })
+                .map(i -> i - 1);
+    }
+
+    private static EffectTrace traceOf(Throwable failure) {
+        return Arrays.stream(failure.getSuppressed())
+                .filter(EffectTrace.class::isInstance)
+                .map(EffectTrace.class::cast)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Test
+    @DisplayName("Tracing off attaches nothing")
+    void off() {
+        EffectTracing.setMode(EffectTracing.Mode.OFF);
+        Try<Integer> result = failingChain().attempt(runtime);
+
+        assertTrue(result.isFailure());
+        assertNull(traceOf(result.getFailure()));
+    }
+
+    @Test
+    @DisplayName("Cached tracing points at the user code that built the failing nodes")
+    void cached() {
+        EffectTracing.setMode(EffectTracing.Mode.CACHED);
+        Try<Integer> result = failingChain().attempt(runtime);
+
+        EffectTrace trace = traceOf(result.getFailure());
+        assertNotNull(trace);
+        assertEquals(1, Arrays.stream(result.getFailure().getSuppressed()).filter(EffectTrace.class::isInstance).count());
+        StackTraceElement newest = trace.sites()[0];
+        assertEquals(EffectTracingTest.class.getName(), newest.getClassName());
+        assertEquals("failingChain", newest.getMethodName());
+        assertEquals(3, trace.sites().length);
+
+        StringWriter printed = new StringWriter();
+        result.getFailure().printStackTrace(new PrintWriter(printed));
+        assertTrue(printed.toString().contains("EffectTrace"));
+        assertTrue(printed.toString().contains("at " + EffectTracingTest.class.getName() + ".failingChain"));
+    }
+
+    @Test
+    @DisplayName("Full tracing distinguishes call sites sharing a lambda class")
+    void full() {
+        assertEquals(2, distinctSitesForSharedLambda(EffectTracing.Mode.FULL));
+        assertEquals(1, distinctSitesForSharedLambda(EffectTracing.Mode.CACHED));
+    }
+
+    @Test
+    @DisplayName("Mode property is case-insensitive and falls back to off when missing or unknown")
+    void parseMode() {
+        assertEquals(EffectTracing.Mode.CACHED, EffectTracing.parseMode("cached"));
+        assertEquals(EffectTracing.Mode.FULL, EffectTracing.parseMode(" Full "));
+        assertEquals(EffectTracing.Mode.OFF, EffectTracing.parseMode(null));
+        assertEquals(EffectTracing.Mode.OFF, EffectTracing.parseMode(""));
+        assertEquals(EffectTracing.Mode.OFF, EffectTracing.parseMode("verbose"));
+    }
+
+    private int distinctSitesForSharedLambda(EffectTracing.Mode mode) {
+        EffectTracing.setMode(mode);
+        Function<Integer, Integer> increment = i -> i + 1;
+        Effect<Integer> first = Effects.<Integer>fail(new IllegalStateException("first")).map(increment);
+        Effect<Integer> second = Effects.<Integer>fail(new IllegalStateException("second")).map(increment);
+
+        StackTraceElement firstSite = traceOf(first.attempt(runtime).getFailure()).sites()[0];
+        StackTraceElement secondSite = traceOf(second.attempt(runtime).getFailure()).sites()[0];
+        assertEquals("distinctSitesForSharedLambda", firstSite.getMethodName());
+        return firstSite.getLineNumber() == secondSite.getLineNumber() ? 1 : 2;
+    }
+}
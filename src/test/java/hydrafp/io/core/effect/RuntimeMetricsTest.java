@@ -0,0 +1,128 @@
+package hydrafp.io.core.effect;
+
+import hydrafp.io.core.adt.Try;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuntimeMetricsTest {
+
+    private RuntimeMetrics metrics;
+    private SimpleRuntime runtime;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new RuntimeMetrics();
+        runtime = new SimpleRuntime(2, metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runtime.shutdown();
+    }
+
+    @Test
+    @DisplayName("Each evaluated effect node counts as a step")
+    void countsSteps() {
+        Effect<Integer> effect = Effects.delay(() -> 1).map(i -> i + 1).flatMap(i -> Effects.delay(() -> i * 2));
+
+        assertEquals(4, effect.unsafeRunSync(runtime));
+        assertEquals(4, metrics.steps());
+    }
+
+    @Test
+    @DisplayName("Named effects record their latency and failures")
+    void recordsNamedSpans() {
+        Effect<Integer> ok = Effects.delay(() -> 1).named("load");
+        Effect<Integer> failing = Effects.<Integer>fail(new IllegalStateException("boom")).named("load");
+
+        for (int i = 0; i < 10; i++) {
+            ok.unsafeRunSync(runtime);
+        }
+        assertTrue(failing.attempt(runtime).isFailure());
+
+        LatencyHistogram latency = metrics.latency("load").get();
+        assertEquals(11, latency.count());
+        assertEquals(1, metrics.failedSpans());
+        assertTrue(metrics.spanNames().contains("load"));
+        assertTrue(metrics.latency("other").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Named effects keep their result")
+    void namedKeepsResult() {
+        assertEquals(Try.success("done"), Effects.pure("done").named("pure").attempt(runtime));
+    }
+
+    @Test
+    @DisplayName("flatMap into a pure effect")
+    void flatMapIntoPure() {
+        assertEquals(3, Effects.delay(() -> 2).flatMap(i -> Effects.pure(i + 1)).unsafeRunSync(runtime));
+    }
+
+    @Test
+    @DisplayName("Pool gauges report queued, active and blocked work")
+    void poolGauges() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        Effect<Boolean> blocking = Effects.delay(() -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        CompletableFuture<Boolean> first = blocking.runAsync(runtime);
+        CompletableFuture<Boolean> second = blocking.runAsync(runtime);
+        CompletableFuture<Boolean> queued = blocking.runAsync(runtime);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(2, runtime.activeThreads());
+        assertEquals(1, runtime.queueDepth());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (runtime.blockedThreads() < 2 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(2, runtime.blockedThreads());
+
+        release.countDown();
+        assertTrue(first.get() && second.get() && queued.get());
+    }
+
+    @Test
+    @DisplayName("Histogram percentiles stay within the bucket precision")
+    void histogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1_000);
+        }
+
+        assertEquals(10_000, histogram.count());
+        assertEquals(10_000_000, histogram.max());
+        assertEquals(5_000_000, histogram.percentile(50), 5_000_000 * 0.04);
+        assertEquals(9_900_000, histogram.percentile(99), 9_900_000 * 0.04);
+        assertEquals(10_000_000, histogram.percentile(100));
+        assertEquals(5_000_500, histogram.mean(), 1);
+    }
+
+    @Test
+    @DisplayName("Histogram bucket bounds are contiguous")
+    void histogramBuckets() {
+        for (long value : new long[]{0, 1, 63, 64, 65, 127, 128, 1_000_003, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(value <= LatencyHistogram.highestValueIn(index));
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.highestValueIn(index - 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package hydrafp.io.core.effect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleTest {
+
+    private static final long MS = 1_000_000L;
+
+    private SimpleRuntime runtime;
+
+    @BeforeEach
+    void setUp() {
+        runtime = new SimpleRuntime(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runtime.shutdown();
+    }
+
+    private static Effect<String> failingTimes(AtomicInteger attempts, int failures) {
+        return Effects.fromIO(r -> {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new IllegalStateException("attempt " + attempts.get());
+            }
+            return "ok";
+        });
+    }
+
+    @Test
+    @DisplayName("Exponential delays double from the base and respect the cap")
+    void exponentialDelaysAreCapped() {
+        Schedule schedule = Schedule.exponential(Duration.ofMillis(10)).capped(Duration.ofMillis(50));
+
+        assertEquals(10 * MS, schedule.delayNanos(1, 0));
+        assertEquals(20 * MS, schedule.delayNanos(2, 0));
+        assertEquals(40 * MS, schedule.delayNanos(3, 0));
+        assertEquals(50 * MS, schedule.delayNanos(4, 0));
+        assertEquals(50 * MS, schedule.delayNanos(1_000, 0));
+    }
+
+    @Test
+    @DisplayName("Jittered delays stay between half and all of the computed delay")
+    void jitterStaysInRange() {
+        Schedule schedule = Schedule.exponential(Duration.ofMillis(100)).jittered();
+        for (int i = 0; i < 1_000; i++) {
+            long delay = schedule.delayNanos(2, 0);
+            assertTrue(delay >= 100 * MS && delay <= 200 * MS, "delay " + delay);
+        }
+    }
+
+    @Test
+    @DisplayName("Retries stop after the retry limit or once the time budget would be exceeded")
+    void limitsStopRetrying() {
+        Schedule limited = Schedule.fixed(Duration.ofMillis(5)).maxRetries(2);
+        assertEquals(5 * MS, limited.delayNanos(2, 0));
+        assertEquals(-1, limited.delayNanos(3, 0));
+
+        Schedule bounded = Schedule.exponential(Duration.ofMillis(10)).upTo(Duration.ofMillis(100));
+        assertEquals(40 * MS, bounded.delayNanos(3, 60 * MS));
+        assertEquals(-1, bounded.delayNanos(3, 61 * MS));
+        assertEquals(-1, Schedule.exponential(Duration.ofSeconds(1)).upTo(Duration.ofDays(1)).delayNanos(200, 0));
+    }
+
+    @Test
+    @DisplayName("Invalid schedules are rejected")
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Schedule.recurs(-1));
+        assertThrows(IllegalArgumentException.class, () -> Schedule.exponential(Duration.ofMillis(1), 0.5));
+        assertThrows(IllegalArgumentException.class, () -> Schedule.fixed(Duration.ofMillis(-1)));
+        assertThrows(NullPointerException.class, () -> Schedule.fixed(null));
+    }
+
+    @Test
+    @DisplayName("retry runs the effect again until it succeeds")
+    void retrySucceedsSynchronously() {
+        AtomicInteger attempts = new AtomicInteger();
+        Effect<String> effect = Effects.retry(failingTimes(attempts, 2), Schedule.fixed(Duration.ofMillis(1)).maxRetries(5));
+
+        assertEquals("ok", effect.unsafeRunSync(runtime));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("retry returns the last failure once the schedule is exhausted")
+    void retryReturnsLastFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        Effect<String> effect = Effects.retry(failingTimes(attempts, 10), Schedule.recurs(2));
+
+        assertEquals("attempt 3", effect.attempt(runtime).getFailure().getMessage());
+        assertEquals(3, attempts.get());
+        assertEquals("fallback", effect.recover(t -> "fallback").unsafeRunSync(runtime));
+    }
+
+    @Test
+    @DisplayName("Asynchronous retry releases the executor thread while waiting")
+    void asyncRetryDoesNotHoldThread() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        Effect<String> effect = Effects.retry(failingTimes(attempts, 1), Schedule.fixed(Duration.ofMillis(300)));
+
+        CompletableFuture<String> retried = effect.runAsync(runtime);
+        CompletableFuture<Integer> other = Effects.delay(() -> 2).runAsync(runtime);
+
+        assertEquals(2, other.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(retried.isDone());
+        assertEquals("ok", retried.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Mapped and recovered retries stay asynchronous while waiting")
+    void composedAsyncRetryDoesNotHoldThread() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        Effect<String> effect = Effects.retry(failingTimes(attempts, 1), Schedule.fixed(Duration.ofMillis(300)))
+                .map(s -> s + "!")
+                .flatMap(s -> Effects.delay(() -> s + "?"));
+
+        CompletableFuture<String> retried = effect.runAsync(runtime);
+        CompletableFuture<Integer> other = Effects.delay(() -> 2).runAsync(runtime);
+
+        assertEquals(2, other.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(retried.isDone());
+        assertEquals("ok!?", retried.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+
+        Effect<String> recovered = Effects.retry(failingTimes(new AtomicInteger(), 10), Schedule.recurs(1))
+                .recover(Throwable::getMessage);
+        assertEquals("attempt 2", recovered.runAsync(runtime).get(5, TimeUnit.SECONDS));
+        assertEquals("attempt 4", recovered.unsafeRunSync(runtime));
+    }
+
+    @Test
+    @DisplayName("A retry nested in a flatMap does not hold a worker while it backs off")
+    void nestedAsyncRetryDoesNotHoldThread() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        Effect<String> effect = Effects.delay(() -> "go")
+                .flatMap(s -> Effects.retry(failingTimes(attempts, 1), Schedule.fixed(Duration.ofMillis(300)).maxRetries(5)));
+
+        CompletableFuture<String> retried = effect.runAsync(runtime);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (attempts.get() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        CompletableFuture<Integer> other = Effects.delay(() -> 2).runAsync(runtime);
+
+        assertEquals(2, other.get(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, runtime.blockedThreads());
+        assertFalse(retried.isDone());
+        assertEquals("ok", retried.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Asynchronous retry completes exceptionally once the schedule is exhausted")
+    void asyncRetryFails() {
+        AtomicInteger attempts = new AtomicInteger();
+        Effect<String> effect = Effects.retry(failingTimes(attempts, 10),
+                Schedule.exponential(Duration.ofMillis(1)).jittered().maxRetries(3));
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> effect.runAsync(runtime).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertEquals(4, attempts.get());
+    }
+}
@@ -1,8 +1,11 @@
 package hydrafp.io.core.lens;
 
+import hydrafp.io.core.collections.ImmutableList;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+
 class LensTest {
 
     // Test classes
@@ -189,4 +192,76 @@ class LensTest {
         assertEquals("Broadway", updatedPwa.getAddress().getStreet());
         assertEquals("New York", updatedPwa.getAddress().getCity());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUncurriedSetter() {
+        Lens<Person, String> lens = Lens.of(Person::getName, Person::withName);
+        Person person = new Person("John", 30);
+        assertEquals("Jane", lens.set(person, "Jane").getName());
+        assertEquals("JOHN", lens.modify(person, String::toUpperCase).getName());
+    }
+
+    @Test
+    void testUnchangedModifyKeepsStructure() {
+        PersonWithAddress pwa = new PersonWithAddress(
+                new Person("John", 30),
+                new Address("Main St", "New York")
+        );
+        Lens<PersonWithAddress, String> addressCityLens = addressLens.compose(cityLens);
+
+        assertSame(pwa, addressCityLens.modify(pwa, city -> city));
+        PersonWithAddress moved = addressCityLens.modify(pwa, city -> "Boston");
+        assertSame(pwa.getPerson(), moved.getPerson());
+        assertEquals("Boston", moved.getAddress().getCity());
+    }
+
+    @Test
+    void testTraversalOverList() {
+        List<Person> people = List.of(new Person("John", 30), new Person("Jane", 17));
+        Traversal<List<Person>, Integer> ages = Traversal.<Person>list().compose(ageLens);
+
+        assertEquals(List.of(30, 17), ages.getAll(people));
+        List<Person> older = ages.modifyAll(people, age -> age + 1);
+        assertEquals(List.of(31, 18), ages.getAll(older));
+        assertSame(people, ages.modifyAll(people, age -> age));
+
+        List<Person> adults = ages.modifyAll(people, age -> Math.max(age, 18));
+        assertSame(people.get(0), adults.get(0));
+        assertEquals(18, adults.get(1).getAge());
+    }
+
+    @Test
+    void testTraversalOverImmutableListSharesUnchangedTail() {
+        ImmutableList<Person> people = ImmutableList.of(new Person("John", 30), new Person("Jane", 17), new Person("Jim", 40));
+        Traversal<ImmutableList<Person>, String> names = Traversal.<Person>immutableList().compose(nameLens);
+
+        ImmutableList<Person> renamed = names.modifyAll(people, name -> name.equals("John") ? "Jack" : name);
+        assertEquals(List.of("Jack", "Jane", "Jim"), names.getAll(renamed));
+        assertSame(people.tail(), renamed.tail());
+        assertSame(people, names.modifyAll(people, name -> name));
+        assertEquals(List.of("X", "X", "X"), names.getAll(names.setAll(people, "X")));
+    }
+
+    @Test
+    void testLensModifyAll() {
+        Lens<Team, List<Person>> membersLens = Lens.of(Team::getMembers, (team, members) -> new Team(members));
+        Team team = new Team(List.of(new Person("John", 30), new Person("Jane", 17)));
+
+        Team updated = membersLens.modifyAll(team, Traversal.list(), p -> p.withAge(p.getAge() * 2));
+        assertEquals(List.of(60, 34), Traversal.<Person>list().compose(ageLens).getAll(updated.getMembers()));
+
+        Traversal<Team, String> memberNames = membersLens.compose(Traversal.<Person>list()).compose(nameLens);
+        assertEquals(List.of("John", "Jane"), memberNames.getAll(team));
+        assertSame(team, memberNames.modifyAll(team, name -> name));
+    }
+
+    static class Team {
+        private final List<Person> members;
+
+        Team(List<Person> members) {
+            this.members = members;
+        }
+
+        public List<Person> getMembers() { return members; }
+    }
+}
@@ -0,0 +1,157 @@
+package hydrafp.io.core.memo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiskStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testColdStartWarmsFromDisk() {
+        Path file = dir.resolve("lengths.memo");
+        int[] counter = {0};
+        Function<String, Integer> length = s -> {
+            counter[0]++;
+            return s.length();
+        };
+
+        try (DiskStore<String, Integer> store = DiskStore.open(file, Serializer.string(), Serializer.java())) {
+            Function<String, Integer> memoized = Memoize.memoize(length, store);
+            assertEquals(5, memoized.apply("hello"));
+            assertEquals(5, memoized.apply("hello"));
+            assertEquals(1, counter[0]);
+        }
+
+        try (DiskStore<String, Integer> store = DiskStore.open(file, Serializer.string(), Serializer.java())) {
+            Function<String, Integer> memoized = Memoize.memoize(length, store);
+            assertEquals(5, memoized.apply("hello"));
+            assertEquals(1, counter[0]);
+            assertEquals(5, memoized.apply("world"));
+            assertEquals(2, counter[0]);
+            assertEquals(2, store.size());
+        }
+    }
+
+    @Test
+    void testWriteBehindFlushesOnClose() {
+        Path file = dir.resolve("write-behind.memo");
+
+        try (DiskStore<String, String> store = DiskStore.builder(file, Serializer.string(), Serializer.string())
+                .writeBehind(Duration.ofHours(1))
+                .open()) {
+            store.put("key", "value");
+            assertEquals("value", store.get("key").getOrElse(""));
+        }
+
+        try (DiskStore<String, String> store = DiskStore.open(file, Serializer.string(), Serializer.string())) {
+            assertEquals("value", store.get("key").getOrElse(""));
+            assertTrue(store.get("missing").isEmpty());
+        }
+    }
+
+    @Test
+    void testInvalidWriteBehindInterval() {
+        assertThrows(IllegalArgumentException.class, () ->
+                DiskStore.builder(dir.resolve("x.memo"), Serializer.string(), Serializer.string())
+                        .writeBehind(Duration.ZERO));
+    }
+
+    private static final Serializer<String> REJECTS_BAD = new Serializer<>() {
+        @Override
+        public byte[] serialize(String value) {
+            if (value.startsWith("bad")) {
+                throw new IllegalStateException("cannot serialize " + value);
+            }
+            return Serializer.string().serialize(value);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            return Serializer.string().deserialize(bytes);
+        }
+    };
+
+    @Test
+    void testFailedBackgroundFlushIsRecordedAndDoesNotStopLaterWrites() throws InterruptedException {
+        Path file = dir.resolve("background.memo");
+
+        try (DiskStore<String, String> store = DiskStore.builder(file, Serializer.string(), REJECTS_BAD)
+                .writeBehind(Duration.ofMillis(10))
+                .open()) {
+            store.put("first", "bad");
+            awaitTrue(() -> store.lastFlushFailure().isDefined());
+            store.put("second", "value");
+            awaitTrue(() -> store.lastFlushFailure().isEmpty() && store.size() == 1);
+        }
+
+        try (DiskStore<String, String> store = DiskStore.open(file, Serializer.string(), Serializer.string())) {
+            assertEquals("value", store.get("second").getOrElse(""));
+            assertTrue(store.get("first").isEmpty());
+        }
+    }
+
+    @Test
+    void testFlushWritesEveryEntryBeforeReportingFailures() {
+        Path file = dir.resolve("partial.memo");
+
+        try (DiskStore<String, String> store = DiskStore.builder(file, Serializer.string(), REJECTS_BAD)
+                .writeBehind(Duration.ofHours(1))
+                .open()) {
+            store.put("a", "bad-a");
+            store.put("b", "value-b");
+            store.put("c", "bad-c");
+            store.put("d", "value-d");
+
+            IllegalStateException failure = assertThrows(IllegalStateException.class, store::flush);
+            assertEquals(1, failure.getSuppressed().length);
+            assertEquals(2, store.size());
+            assertDoesNotThrow(store::flush);
+        }
+
+        try (DiskStore<String, String> store = DiskStore.open(file, Serializer.string(), Serializer.string())) {
+            assertEquals("value-b", store.get("b").getOrElse(""));
+            assertEquals("value-d", store.get("d").getOrElse(""));
+            assertEquals(2, store.size());
+        }
+    }
+
+    @Test
+    void testCloseReleasesTheFileWhenFlushFails() {
+        DiskStore<String, String> store = DiskStore.builder(dir.resolve("close.memo"), Serializer.string(), REJECTS_BAD)
+                .writeBehind(Duration.ofHours(1))
+                .open();
+        store.put("good", "value");
+        store.flush();
+        store.put("broken", "bad");
+
+        assertThrows(IllegalStateException.class, store::close);
+        assertThrows(UncheckedIOException.class, () -> store.get("good"));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testNullResultsAreNotPersisted() {
+        try (DiskStore<String, String> store = DiskStore.open(dir.resolve("nulls.memo"), Serializer.string(), Serializer.string())) {
+            Function<String, String> memoized = Memoize.memoize(s -> null, store);
+            assertNull(memoized.apply("key"));
+            assertEquals(0, store.size());
+        }
+    }
+}
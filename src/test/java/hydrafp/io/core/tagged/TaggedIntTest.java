@@ -0,0 +1,40 @@
+package hydrafp.io.core.tagged;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaggedIntTest {
+
+    private interface OrderId {
+    }
+
+    @Test
+    void testOfAndGetValue() {
+        TaggedInt<OrderId> id = TaggedInt.of(1_000_000);
+        assertEquals(1_000_000, id.getValue());
+    }
+
+    @Test
+    void testSmallValuesAreShared() {
+        assertSame(TaggedInt.of(-128), TaggedInt.of(-128));
+        assertEquals(TaggedInt.of(128), TaggedInt.of(128));
+    }
+
+    @Test
+    void testMapZipAndRetag() {
+        TaggedInt<OrderId> id = TaggedInt.of(20);
+        assertEquals(21, id.map(v -> v + 1).getValue());
+        assertEquals(400, id.zip(TaggedInt.of(20), (a, b) -> a * b).getValue());
+        TaggedInt<String> retagged = id.retag();
+        assertEquals(id, retagged);
+    }
+
+    @Test
+    void testConversionsAndHashing() {
+        TaggedInt<OrderId> id = TaggedInt.of(9);
+        assertEquals(Tagged.of(9), id.boxed());
+        assertEquals(Integer.hashCode(9), id.hashCode());
+        assertEquals("TaggedInt[9]", id.toString());
+    }
+}
@@ -0,0 +1,53 @@
+package hydrafp.io.core.tagged;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaggedLongTest {
+
+    private interface UserId {
+    }
+
+    @Test
+    void testOfAndGetValue() {
+        TaggedLong<UserId> id = TaggedLong.of(123_456_789_000L);
+        assertEquals(123_456_789_000L, id.getValue());
+    }
+
+    @Test
+    void testSmallValuesAreShared() {
+        assertSame(TaggedLong.of(7), TaggedLong.of(7));
+        assertEquals(TaggedLong.of(1_000), TaggedLong.of(1_000));
+    }
+
+    @Test
+    void testMapAndZip() {
+        TaggedLong<UserId> id = TaggedLong.of(40);
+        assertEquals(41, id.map(v -> v + 1).getValue());
+        assertSame(id, id.map(v -> v));
+        assertEquals(80, id.zip(TaggedLong.of(40), Long::sum).getValue());
+    }
+
+    @Test
+    void testConversions() {
+        TaggedLong<UserId> id = TaggedLong.of(5);
+        assertEquals(Tagged.of(5L), id.boxed());
+        assertEquals("id-5", id.mapToObj(v -> "id-" + v).getValue());
+        assertTrue(id.test(v -> v > 0));
+    }
+
+    @Test
+    void testEqualityOrderingAndHashing() {
+        Map<TaggedLong<UserId>, String> names = new HashMap<>();
+        names.put(TaggedLong.of(10_000), "alice");
+        assertEquals("alice", names.get(TaggedLong.of(10_000)));
+        assertEquals(Long.hashCode(10_000), TaggedLong.of(10_000).hashCode());
+        assertTrue(TaggedLong.<UserId>of(1).compareTo(TaggedLong.of(2)) < 0);
+        assertNotEquals(TaggedLong.of(1), TaggedInt.of(1));
+        assertEquals("TaggedLong[3]", TaggedLong.of(3).toString());
+    }
+}
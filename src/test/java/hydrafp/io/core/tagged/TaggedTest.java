@@ -232,5 +232,30 @@ class TaggedTest {
         }
     }
 
+    @Nested
+    class Interning {
+        @Test
+        void testInternReturnsSharedInstance() {
+            Tagged<String, String> first = Tagged.intern("user-" + 7);
+            Tagged<String, String> second = Tagged.intern("user-" + 7);
+            assertSame(first, second);
+            assertEquals(Tagged.of("user-7"), first);
+        }
 
-}
\ No newline at end of file
+        @Test
+        void testInternRejectsNull() {
+            assertThrows(NullPointerException.class, () -> Tagged.intern(null));
+        }
+
+        @Test
+        void testMapReturningSameValueKeepsInstance() {
+            Tagged<String, Integer> tagged = Tagged.of(42);
+            assertSame(tagged, tagged.map(Function.identity()));
+        }
+
+        @Test
+        void testHashCodeMatchesObjectsHash() {
+            assertEquals(java.util.Objects.hash("id"), Tagged.of("id").hashCode());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package hydrafp.io.core.tco;
+
+import hydrafp.io.core.adt.Either;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelRecursionTest {
+
+    private static TailRec<Long> sumRange(long from, long to, long acc) {
+        return from > to ? TailRec.pure(acc) : TailRec.defer(() -> sumRange(from + 1, to, acc + from));
+    }
+
+    private static ParallelRecursion.ParallelRecursionBuilder<long[], Long> rangeSum(long n) {
+        return ParallelRecursion.<long[], Long>start(new long[]{1, n})
+                .threshold(r -> r[1] - r[0] < 10_000)
+                .sequential(r -> sumRange(r[0], r[1], 0))
+                .fork(
+                        r -> new long[]{r[0], (r[0] + r[1]) / 2},
+                        r -> new long[]{(r[0] + r[1]) / 2 + 1, r[1]},
+                        Long::sum
+                );
+    }
+
+    @Test
+    @DisplayName("Sum a range by splitting it across the pool")
+    void sumRangeInParallel() {
+        long n = 2_000_000;
+        assertEquals(Either.right(n * (n + 1) / 2), rangeSum(n).build().compute());
+    }
+
+    @Test
+    @DisplayName("Run on a configured pool")
+    void customPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals(Either.right(5_050L), rangeSum(100).pool(pool).build().compute());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Problems below the threshold are not split")
+    void belowThreshold() {
+        AtomicInteger splits = new AtomicInteger();
+        ParallelRecursion<Integer> computation = ParallelRecursion.<Integer, Integer>start(10)
+                .threshold(n -> true)
+                .sequential(TailRec::pure)
+                .fork(n -> { splits.incrementAndGet(); return n; }, n -> n, Integer::sum)
+                .build();
+
+        assertEquals(Either.right(10), computation.compute());
+        assertEquals(0, splits.get());
+    }
+
+    @Test
+    @DisplayName("A failing leaf fails the whole computation")
+    void failingLeaf() {
+        ParallelRecursion<Long> computation = ParallelRecursion.<long[], Long>start(new long[]{1, 100_000})
+                .threshold(r -> r[1] - r[0] < 1_000)
+                .sequential(r -> r[0] <= 50_000 && 50_000 <= r[1]
+                        ? TailRec.raiseError(new ArithmeticException("overflow"))
+                        : TailRec.pure(r[1] - r[0]))
+                .fork(
+                        r -> new long[]{r[0], (r[0] + r[1]) / 2},
+                        r -> new long[]{(r[0] + r[1]) / 2 + 1, r[1]},
+                        Long::sum
+                )
+                .build();
+
+        Either<Throwable, Long> result = computation.compute();
+        assertTrue(result.isLeft());
+        assertInstanceOf(ArithmeticException.class, result.getLeft());
+    }
+
+    private static TailRec<Long> spin(AtomicLong steps, CountDownLatch running) {
+        return TailRec.defer(() -> {
+            if (steps.incrementAndGet() == 1_000) {
+                running.countDown();
+            }
+            return spin(steps, running);
+        });
+    }
+
+    @Test
+    @DisplayName("A failure stops a sibling subtree that is already running")
+    void failureStopsRunningSibling() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        AtomicLong siblingSteps = new AtomicLong();
+        try {
+            ParallelRecursion<Long> computation = ParallelRecursion.<Integer, Long>start(-1)
+                    .threshold(n -> n >= 0)
+                    .sequential(n -> n == 0
+                            ? spin(siblingSteps, siblingStarted)
+                            : TailRec.defer(() -> {
+                                try {
+                                    siblingStarted.await(5, TimeUnit.SECONDS);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                return TailRec.raiseError(new ArithmeticException("overflow"));
+                            }))
+                    .fork(n -> 0, n -> 1, Long::sum)
+                    .pool(pool)
+                    .build();
+
+            Either<Throwable, Long> result = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> computation.compute());
+            assertInstanceOf(ArithmeticException.class, result.getLeft());
+            assertEquals(0, siblingStarted.getCount());
+            assertTrue(pool.awaitQuiescence(5, TimeUnit.SECONDS), "sibling kept running after the failure");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Building without a fork is rejected")
+    void incompleteBuilder() {
+        assertThrows(IllegalStateException.class, () -> ParallelRecursion.<Integer, Integer>start(1)
+                .threshold(n -> true)
+                .sequential(TailRec::pure)
+                .build());
+    }
+}
@@ -1,6 +1,7 @@
 package hydrafp.io.core.tco;
 
 import hydrafp.io.core.adt.Either;
+import hydrafp.io.core.adt.StacklessException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
@@ -8,7 +9,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,6 +55,21 @@ class StepwiseRecursionTest {
         assertTrue(exceptionComputation.compute().isLeft());
     }
 
+    @Test
+    @DisplayName("Step exceptions are returned as thrown, without a wrapper")
+    void stepExceptionIsNotWrapped() {
+        StacklessException error = StacklessException.preallocated("Error at 3");
+        StepwiseRecursion<Integer> computation = StepwiseRecursion.start(5)
+                .step(n -> {
+                    if (n == 3) throw error;
+                    return n - 1;
+                })
+                .until(n -> n <= 0)
+                .build();
+
+        assertSame(error, computation.compute().getLeft());
+    }
+
     @Test
     @DisplayName("Use stepEither for custom error handling")
     void useStepEither() {
@@ -177,4 +196,77 @@ class StepwiseRecursionTest {
         assertEquals(Either.right(16), multiStepComputation.compute());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Timeout stops the computation instead of leaving it running")
+    void timeoutCancelsComputation() throws InterruptedException {
+        AtomicLong steps = new AtomicLong();
+        StepwiseRecursion<Long> endless = StepwiseRecursion.start(0L)
+                .step(n -> {
+                    steps.incrementAndGet();
+                    return n + 1;
+                })
+                .until(n -> false)
+                .build();
+
+        Either<Throwable, Long> result = endless.timeout(50, TimeUnit.MILLISECONDS).compute();
+        assertTrue(result.isLeft());
+        assertInstanceOf(TimeoutException.class, result.getLeft());
+
+        Thread.sleep(50);
+        long afterTimeout = steps.get();
+        Thread.sleep(100);
+        assertEquals(afterTimeout, steps.get());
+    }
+
+    @Test
+    @DisplayName("Timeout cancels mapped and flat-mapped computations")
+    void timeoutCancelsMappedComputation() throws InterruptedException {
+        AtomicLong steps = new AtomicLong();
+        StepwiseRecursion<Long> endless = StepwiseRecursion.start(0L)
+                .step(n -> {
+                    steps.incrementAndGet();
+                    return n + 1;
+                })
+                .until(n -> false)
+                .build();
+        RecursiveComputation<String> mapped = RecursiveComputation.pure(0L)
+                .flatMap(ignored -> endless)
+                .map(String::valueOf);
+
+        Either<Throwable, String> result = mapped.timeout(50, TimeUnit.MILLISECONDS).compute();
+        assertInstanceOf(TimeoutException.class, result.getLeft());
+
+        Thread.sleep(50);
+        long afterTimeout = steps.get();
+        Thread.sleep(100);
+        assertEquals(afterTimeout, steps.get());
+    }
+
+    @Test
+    @DisplayName("Timed computation on the shared bounded executor")
+    void timeoutOnBoundedExecutor() {
+        StepwiseRecursion<Integer> countdown = StepwiseRecursion.start(1_000)
+                .step(n -> n - 1)
+                .until(n -> n == 0)
+                .build();
+
+        assertEquals(Either.right(0),
+                countdown.timeout(5, TimeUnit.SECONDS, RecursiveComputation.boundedExecutor()).compute());
+    }
+
+    @Test
+    @DisplayName("Probe reports progress of a long computation")
+    void probeProgress() {
+        AtomicLong samples = new AtomicLong();
+        RecursionProbe probe = RecursionProbe.every(100, (steps, elapsedNanos) -> samples.incrementAndGet());
+        StepwiseRecursion<Integer> countdown = StepwiseRecursion.start(10_000)
+                .step(n -> n - 1)
+                .until(n -> n == 0)
+                .build();
+
+        assertEquals(Either.right(0), countdown.compute(probe));
+        assertEquals(78, samples.get());
+        assertEquals(10_001, probe.steps());
+        assertTrue(probe.elapsedNanos() > 0);
+    }
+}
@@ -0,0 +1,164 @@
+package hydrafp.io.core.tco;
+
+import hydrafp.io.core.adt.Either;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TailRecTest {
+
+    private static TailRec<Long> sumTo(long n, long acc) {
+        return n == 0
+                ? TailRec.pure(acc)
+                : TailRec.<Long>pure(n).flatMap(k -> sumTo(k - 1, acc + k));
+    }
+
+    @Test
+    @DisplayName("Left-nested flatMaps run in constant stack space")
+    void leftNestedFlatMap() {
+        TailRec<Integer> computation = TailRec.pure(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            computation = computation.flatMap(n -> TailRec.pure(n + 1));
+        }
+
+        assertEquals(Either.right(1_000_000), computation.run());
+    }
+
+    @Test
+    @DisplayName("Left-nested maps run in constant stack space")
+    void leftNestedMap() {
+        TailRec<Integer> computation = TailRec.pure(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            computation = computation.map(n -> n + 1);
+        }
+
+        assertEquals(Either.right(1_000_000), computation.run());
+    }
+
+    @Test
+    @DisplayName("Right-nested monadic recursion is stack safe")
+    void rightNestedRecursion() {
+        assertEquals(Either.right(5_000_050_000L), sumTo(100_000, 0).run());
+    }
+
+    @Test
+    @DisplayName("Errors skip binds and reach the nearest handler")
+    void handleErrorWith() {
+        TailRec<Integer> failing = TailRec.<Integer>raiseError(new IllegalStateException("boom"))
+                .map(n -> n + 1)
+                .flatMap(n -> TailRec.pure(n * 2));
+
+        TailRec<Integer> recovered = failing
+                .handleErrorWith(e -> TailRec.pure(-1))
+                .map(n -> n - 1);
+
+        assertTrue(failing.run().isLeft());
+        assertEquals(Either.right(-2), recovered.run());
+    }
+
+    @Test
+    @DisplayName("Handlers are skipped when the computation succeeds")
+    void handlerSkippedOnSuccess() {
+        TailRec<Integer> computation = TailRec.pure(1)
+                .handleErrorWith(e -> TailRec.pure(-1))
+                .map(n -> n + 1);
+
+        assertEquals(Either.right(2), computation.run());
+    }
+
+    @Test
+    @DisplayName("Exceptions thrown by a continuation become failures")
+    void throwingContinuation() {
+        TailRec<Integer> computation = TailRec.pure(1)
+                .<Integer>map(n -> { throw new IllegalArgumentException("bad " + n); })
+                .handleErrorWith(e -> TailRec.pure(e.getMessage().length()));
+
+        assertEquals(Either.right(5), computation.run());
+    }
+
+    @Test
+    @DisplayName("Binding a non-TailRec computation evaluates it")
+    void flatMapOtherComputation() {
+        TailRec<Integer> computation = TailRec.pure(20)
+                .flatMap(n -> RecursiveComputation.pure(n + 1))
+                .map(n -> n * 2);
+
+        assertEquals(Either.right(42), computation.run());
+    }
+
+    @Test
+    @DisplayName("Deferred self-recursion runs without Either wrappers per step")
+    void deferredRecursion() {
+        assertEquals(Either.right(500_000_500_000L), countDown(1_000_000, 0).run());
+    }
+
+    @Test
+    @DisplayName("Exceptions thrown by resume become failures")
+    void throwingResume() {
+        TailRec<Integer> computation = () -> { throw new IllegalStateException("broken step"); };
+
+        Either<Throwable, Integer> result = computation.run();
+        assertTrue(result.isLeft());
+        assertEquals("broken step", result.getLeft().getMessage());
+    }
+
+    @Test
+    @DisplayName("A cancelled token stops the run loop")
+    void cancelledToken() {
+        CancellationToken token = CancellationToken.create();
+        token.cancel();
+
+        Either<Throwable, Long> result = countDown(1_000_000, 0).run(token);
+        assertTrue(result.isLeft());
+        assertInstanceOf(CancellationException.class, result.getLeft());
+        assertThrows(UnsupportedOperationException.class, () -> CancellationToken.none().cancel());
+    }
+
+    @Test
+    @DisplayName("A probe samples progress at its interval")
+    void probeSamples() {
+        List<Long> sampled = new ArrayList<>();
+        AtomicLong completed = new AtomicLong();
+        RecursionProbe probe = RecursionProbe.every(1_000, new RecursionProbe.Listener() {
+            @Override
+            public void onSample(long steps, long elapsedNanos) {
+                sampled.add(steps);
+            }
+
+            @Override
+            public void onComplete(long steps, long elapsedNanos) {
+                completed.set(steps);
+            }
+        });
+
+        assertEquals(Either.right(50_005_000L), countDown(10_000, 0).run(probe));
+        assertEquals(1_024L, sampled.get(0));
+        assertEquals(sampled.size(), completed.get() / 1_024);
+        assertEquals(completed.get(), probe.steps());
+        assertFalse(probe.isRunning());
+        assertTrue(completed.get() > 10_000);
+    }
+
+    @Test
+    @DisplayName("A probe keeps a ring of the most recent samples")
+    void probeRing() {
+        RecursionProbe probe = RecursionProbe.every(1);
+
+        countDown(100, 0).run(probe);
+        List<RecursionProbe.Sample> samples = probe.recentSamples();
+        assertEquals(64, samples.size());
+        assertEquals(probe.steps(), samples.get(63).steps());
+        assertEquals(samples.get(62).steps(), samples.get(61).steps() + 1);
+        assertThrows(IllegalArgumentException.class, () -> RecursionProbe.every(0));
+    }
+
+    private static TailRec<Long> countDown(long n, long acc) {
+        return n == 0 ? TailRec.pure(acc) : TailRec.defer(() -> countDown(n - 1, acc + n));
+    }
+}
@@ -1,9 +1,13 @@
 package hydrafp.io.core.validation;
 
+import hydrafp.io.core.collections.ImmutableList;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 class ValidationTest {
 
@@ -67,4 +71,88 @@ class ValidationTest {
         assertEquals(2, invalidResult.getErrors().size());
         assertTrue(invalidResult.getErrors().containsAll(Arrays.asList("Error 1", "Error 2")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMap2AccumulatesErrorsInOrder() {
+        Validation<String, Integer> result = Validation.valid(0);
+        for (int i = 0; i < 100_000; i++) {
+            Validation<String, Integer> next = i % 2 == 0 ? Validation.invalid("Error " + i) : Validation.valid(i);
+            result = Validation.map2(result, next, a -> b -> a + b);
+        }
+        assertFalse(result.isValid());
+        List<String> errors = result.getErrors();
+        assertEquals(50_000, errors.size());
+        assertEquals("Error 0", errors.get(0));
+        assertEquals("Error 99998", errors.get(errors.size() - 1));
+    }
+
+    @Test
+    void testInvalidFromList() {
+        Validation<String, Integer> invalid = Validation.invalid(List.of("Error 1", "Error 2"));
+        assertEquals(List.of("Error 1", "Error 2"), invalid.getErrors());
+        assertThrows(IllegalArgumentException.class, () -> Validation.invalid(List.of()));
+    }
+
+    @Test
+    void testInvalidMapKeepsInstance() {
+        Validation<String, Integer> invalid = Validation.invalid("Error");
+        assertSame(invalid, invalid.map(i -> i + 1));
+        assertSame(invalid, invalid.flatMap(Validation::valid));
+    }
+
+    @Test
+    void testEquality() {
+        assertEquals(Validation.valid(5), Validation.valid(5));
+        assertNotEquals(Validation.valid(5), Validation.invalid(5));
+        assertEquals(Validation.invalid(List.of("a", "b")),
+                Validation.map2(Validation.invalid("a"), Validation.invalid("b"), i -> j -> i));
+    }
+
+    @Test
+    void testMapN() {
+        Validation<String, Integer> sum = Validation.mapN(
+                Validation.valid(1), Validation.valid(2), Validation.valid(3), Validation.valid(4),
+                Validation.valid(5), Validation.valid(6), Validation.valid(7), Validation.valid(8),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        assertEquals(Validation.valid(36), sum);
+
+        Validation<String, String> invalid = Validation.mapN(
+                Validation.<String, Integer>invalid("Error 1"), Validation.valid("x"), Validation.<String, Boolean>invalid("Error 3"),
+                (a, b, c) -> b);
+        assertEquals(List.of("Error 1", "Error 3"), invalid.getErrors());
+    }
+
+    @Test
+    void testTraverseImmutableList() {
+        ImmutableList<Integer> numbers = ImmutableList.of(1, 2, 3);
+        assertEquals(Validation.valid(ImmutableList.of(2, 4, 6)), Validation.traverse(numbers, i -> Validation.valid(i * 2)));
+
+        Validation<String, ImmutableList<Integer>> odd = Validation.traverse(numbers,
+                i -> i % 2 == 0 ? Validation.valid(i) : Validation.invalid("odd " + i));
+        assertEquals(List.of("odd 1", "odd 3"), odd.getErrors());
+    }
+
+    @Test
+    void testSequenceIterable() {
+        List<Validation<String, Integer>> all = List.of(Validation.valid(1), Validation.valid(2));
+        assertEquals(Validation.valid(List.of(1, 2)), Validation.sequence(all));
+
+        List<Validation<String, Integer>> mixed = List.of(Validation.invalid("a"), Validation.valid(2), Validation.invalid("b"));
+        assertEquals(List.of("a", "b"), Validation.sequence(mixed).getErrors());
+    }
+
+    @Test
+    void testParTraverse() {
+        List<Integer> numbers = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+        Validation<String, List<Integer>> doubled = Validation.parTraverse(numbers, i -> Validation.valid(i * 2));
+        assertEquals(10_000, doubled.getValue().size());
+        assertEquals(19_998, doubled.getValue().get(9_999));
+
+        Validation<String, List<Integer>> failed = Validation.parTraverse(numbers,
+                i -> i % 1_000 == 0 ? Validation.invalid("bad " + i) : Validation.valid(i));
+        assertEquals(10, failed.getErrors().size());
+        assertEquals("bad 0", failed.getErrors().get(0));
+        assertEquals("bad 9000", failed.getErrors().get(9));
+    }
+}
@@ -124,4 +124,35 @@ class DynamicRecordTest {
 
         assertTrue(emptyMappedValue.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHashCodeConsistentWithEquals() {
+        DynamicRecordCreator.DynamicRecord record1 = DynamicRecordCreator.createRecord(Map.of(
+                "name", new String("test"),
+                "count", 1_000
+        ));
+        DynamicRecordCreator.DynamicRecord record2 = DynamicRecordCreator.createRecord(Map.of(
+                "count", 1_000,
+                "name", "test"
+        ));
+
+        assertEquals(record1, record2);
+        assertEquals(record1.hashCode(), record2.hashCode());
+    }
+
+    @Test
+    void testDifferentKeysAreNotEqual() {
+        DynamicRecordCreator.DynamicRecord record1 = DynamicRecordCreator.createRecord(Map.of("a", 1));
+        DynamicRecordCreator.DynamicRecord record2 = DynamicRecordCreator.createRecord(Map.of("a", 1, "b", 2));
+
+        assertNotEquals(record1, record2);
+        assertNotEquals(record2, record1);
+    }
+
+    @Test
+    void testRepeatedLookupsReturnSameOption() {
+        DynamicRecordCreator.DynamicRecord record = DynamicRecordCreator.createRecord(Map.of("a", 1));
+
+        assertSame(record.get("a"), record.get("a"));
+    }
+}
@@ -6,7 +6,15 @@ import hydrafp.io.core.lens.Lens;
 import hydrafp.io.core.validation.Validation;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -128,5 +136,139 @@ class ExtensibleRecordTest {
         assertTrue(errors.contains("Age cannot be negative"));
     }
 
+    @Test
+    void testEqualityIgnoresExtensionOrder() {
+        ExtensibleRecord first = ExtensibleRecord.create().extend(NAME, "Alice").extend(AGE, 30);
+        ExtensibleRecord second = ExtensibleRecord.create().extend(AGE, 30).extend(NAME, "Alice");
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, ExtensibleRecord.of(Map.of("name", "Alice", "age", 30)));
+        assertNotEquals(first, first.extend(CITY, "Paris"));
+    }
+
+    @Test
+    void testExtendExistingFieldReplacesValue() {
+        ExtensibleRecord record = ExtensibleRecord.create().extend(NAME, "Alice");
+        ExtensibleRecord renamed = record.extend(NAME, "Bob");
+
+        assertEquals("Alice", record.get(NAME).getOrElse(""));
+        assertEquals("Bob", renamed.get(NAME).getOrElse(""));
+        assertEquals("ExtensibleRecord{name=Bob}", renamed.toString());
+    }
+
+    @Test
+    void testFieldLookupAcrossDifferentShapes() {
+        ExtensibleRecord nameFirst = ExtensibleRecord.create().extend(NAME, "Alice").extend(AGE, 30);
+        ExtensibleRecord ageFirst = ExtensibleRecord.create().extend(AGE, 40).extend(NAME, "Bob");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(30, nameFirst.get(AGE).getOrElse(0));
+            assertEquals(40, ageFirst.get(AGE).getOrElse(0));
+        }
+        assertTrue(ExtensibleRecord.create().get(AGE).isEmpty());
+    }
+
+    private static ExtensibleRecord.RecordValidation<String> ageAndNameValidation(AtomicInteger calls) {
+        return ExtensibleRecord.RecordValidation.of(
+                r -> {
+                    calls.incrementAndGet();
+                    return r.get(AGE).getOrElse(-1) >= 0 ? Validation.valid(r) : Validation.invalid("Age cannot be negative");
+                },
+                r -> {
+                    calls.incrementAndGet();
+                    return r.get(NAME).getOrElse("").isEmpty() ? Validation.invalid("Name cannot be empty") : Validation.valid(r);
+                }
+        );
+    }
+
+    @Test
+    void testFailFastValidation() {
+        AtomicInteger calls = new AtomicInteger();
+        ExtensibleRecord invalidRecord = ExtensibleRecord.create().extend(NAME, "").extend(AGE, -5);
+
+        Validation<String, Object> result = ageAndNameValidation(calls).failFast().validate(invalidRecord);
+
+        assertEquals(List.of("Age cannot be negative"), result.getErrors());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testParallelValidationKeepsValidatorOrder() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ExtensibleRecord invalidRecord = ExtensibleRecord.create().extend(NAME, "").extend(AGE, -5);
+            ExtensibleRecord validRecord = ExtensibleRecord.create().extend(NAME, "Ivan").extend(AGE, 20);
+            ExtensibleRecord.RecordValidation<String> validation = ageAndNameValidation(new AtomicInteger()).parallel(pool);
+
+            assertEquals(List.of("Age cannot be negative", "Name cannot be empty"), validation.validate(invalidRecord).getErrors());
+            assertTrue(validation.validate(validRecord).isValid());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testValidateAll() {
+        List<ExtensibleRecord> records = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            records.add(ExtensibleRecord.create().extend(NAME, "n" + i).extend(AGE, i % 10 == 0 ? -1 : i));
+        }
+
+        List<Validation<String, Object>> results = ageAndNameValidation(new AtomicInteger())
+                .validateAll(records)
+                .collect(Collectors.toList());
+
+        assertEquals(1_000, results.size());
+        assertEquals(100, results.stream().filter(v -> !v.isValid()).count());
+        assertFalse(results.get(0).isValid());
+        assertEquals(records.get(1), results.get(1).getValue());
+    }
 
-}
\ No newline at end of file
+    @Test
+    void testValidateAllRunsOnCallingThreadByDefault() {
+        Thread caller = Thread.currentThread();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<ExtensibleRecord> records = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            records.add(ExtensibleRecord.create().extend(AGE, i));
+        }
+
+        List<Object> validated = ExtensibleRecord.RecordValidation.<String>of(r -> {
+                    threads.add(Thread.currentThread());
+                    return Validation.valid(r);
+                })
+                .validateAll(records)
+                .map(Validation::getValue)
+                .collect(Collectors.toList());
+
+        assertEquals(records, validated);
+        assertEquals(Set.of(caller), threads);
+    }
+
+    @Test
+    void testParallelValidateAllUsesConfiguredPoolAndKeepsOrder() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+            List<ExtensibleRecord> records = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                records.add(ExtensibleRecord.create().extend(AGE, i));
+            }
+
+            List<Object> validated = ExtensibleRecord.RecordValidation.<String>of(r -> {
+                        pools.add(ForkJoinTask.getPool());
+                        return Validation.valid(r);
+                    })
+                    .parallel(pool)
+                    .validateAll(records)
+                    .map(Validation::getValue)
+                    .collect(Collectors.toList());
+
+            assertEquals(records, validated);
+            assertEquals(Set.of(pool), pools);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package hydrafp.io.dynamic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordBatchTest {
+
+    private static final ExtensibleRecord.Field<String> NAME = ExtensibleRecord.Field.of("name");
+    private static final ExtensibleRecord.Field<Integer> AGE = ExtensibleRecord.Field.of("age");
+    private static final ExtensibleRecord.Field<Long> VISITS = ExtensibleRecord.Field.of("visits");
+    private static final ExtensibleRecord.Field<Double> SCORE = ExtensibleRecord.Field.of("score");
+
+    private static ExtensibleRecord person(String name, int age, long visits, double score) {
+        return ExtensibleRecord.create()
+                .extend(NAME, name)
+                .extend(AGE, age)
+                .extend(VISITS, visits)
+                .extend(SCORE, score);
+    }
+
+    private static RecordBatch people() {
+        return RecordBatch.of(List.of(
+                person("Alice", 30, 10L, 1.5),
+                person("Bob", 17, 3L, 2.0),
+                person("Carol", 45, 7L, 0.5)
+        ));
+    }
+
+    @Test
+    void testRowsReadBackAsRecords() {
+        RecordBatch batch = people();
+
+        assertEquals(3, batch.size());
+        assertEquals("Bob", batch.row(1).get(NAME).getOrElse(""));
+        assertEquals(17, batch.row(1).getInt(AGE));
+        assertEquals(3L, batch.row(1).getLong(VISITS));
+        assertEquals(2.0, batch.row(1).getDouble(SCORE));
+        assertTrue(batch.row(1).get("missing").isEmpty());
+        assertEquals(person("Carol", 45, 7L, 0.5), batch.row(2).toRecord());
+    }
+
+    @Test
+    void testRecordsWithDifferentFieldOrder() {
+        ExtensibleRecord reordered = ExtensibleRecord.create()
+                .extend(SCORE, 3.0)
+                .extend(VISITS, 1L)
+                .extend(AGE, 50)
+                .extend(NAME, "Dave");
+        RecordBatch batch = RecordBatch.of(List.of(person("Alice", 30, 10L, 1.5), reordered));
+
+        assertEquals(reordered, batch.row(1).toRecord());
+        assertEquals(80, batch.sumInt(AGE));
+    }
+
+    @Test
+    void testFilter() {
+        RecordBatch adults = people().filterInt(AGE, age -> age >= 18);
+
+        assertEquals(2, adults.size());
+        assertEquals(List.of(person("Alice", 30, 10L, 1.5), person("Carol", 45, 7L, 0.5)), adults.toRecords());
+        assertEquals(1, people().filterLong(VISITS, v -> v > 8).size());
+        assertEquals(0, people().filterDouble(SCORE, s -> s > 5).size());
+    }
+
+    @Test
+    void testProject() {
+        RecordBatch projected = people().project(NAME, AGE);
+
+        assertEquals(ExtensibleRecord.create().extend(NAME, "Alice").extend(AGE, 30), projected.row(0).toRecord());
+        assertTrue(projected.row(0).get(SCORE).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> projected.sumDouble(SCORE));
+    }
+
+    @Test
+    void testProjectRejectsDuplicateFields() {
+        RecordBatch batch = people();
+        assertThrows(IllegalArgumentException.class, () -> batch.project(NAME, NAME));
+        assertThrows(IllegalArgumentException.class, () -> batch.project(AGE, NAME, ExtensibleRecord.Field.of("age")));
+    }
+
+    @Test
+    void testAggregates() {
+        RecordBatch batch = people();
+
+        assertEquals(92L, batch.sumInt(AGE));
+        assertEquals(20L, batch.sumLong(VISITS));
+        assertEquals(4.0, batch.sumDouble(SCORE));
+    }
+
+    @Test
+    void testNonPrimitiveColumnRejectsPrimitiveAccess() {
+        List<ExtensibleRecord> records = new ArrayList<>();
+        records.add(ExtensibleRecord.create().extend("age", 1));
+        records.add(ExtensibleRecord.create().extend("age", "unknown"));
+        RecordBatch batch = RecordBatch.of(records);
+
+        assertEquals("unknown", batch.row(1).get(AGE.getName()).getOrElse(null));
+        assertThrows(IllegalArgumentException.class, () -> batch.sumInt(AGE));
+    }
+
+    @Test
+    void testMismatchedFieldsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RecordBatch.of(List.of(
+                ExtensibleRecord.create().extend(NAME, "Alice"),
+                ExtensibleRecord.create().extend(AGE, 30)
+        )));
+    }
+
+    private static final RecordBatch.Schema PEOPLE = RecordBatch.schema()
+            .field(NAME)
+            .intField(AGE)
+            .longField(VISITS)
+            .doubleField(SCORE);
+
+    @Test
+    void testEmptyBatchWithSchemaKeepsColumns() {
+        RecordBatch empty = RecordBatch.of(PEOPLE, List.of());
+
+        assertEquals(0, empty.size());
+        assertEquals(0, empty.filterInt(AGE, age -> age >= 18).size());
+        assertEquals(0, empty.project(NAME, AGE).size());
+        assertEquals(0L, empty.sumLong(VISITS));
+        assertEquals(List.of(), empty.toRecords());
+        assertEquals(0, people().filterInt(AGE, age -> age > 100).project(NAME).size());
+    }
+
+    @Test
+    void testSchemaFixesColumnKinds() {
+        List<ExtensibleRecord> records = List.of(person("Alice", 30, 10L, 1.5), person("Bob", 17, 3L, 2.0));
+
+        assertEquals(47L, RecordBatch.of(PEOPLE, records).sumInt(AGE));
+        RecordBatch boxed = RecordBatch.of(RecordBatch.schema().field(NAME).field(AGE).field(VISITS).field(SCORE), records);
+        assertThrows(IllegalArgumentException.class, () -> boxed.sumInt(AGE));
+        assertEquals(records, boxed.toRecords());
+        assertThrows(IllegalArgumentException.class, () -> RecordBatch.schema().field(NAME).intField(ExtensibleRecord.Field.of("name")));
+    }
+
+    @Test
+    void testAllNullColumn() {
+        List<ExtensibleRecord> records = List.of(
+                ExtensibleRecord.create().extend(NAME, null).extend(AGE, 1),
+                ExtensibleRecord.create().extend(NAME, null).extend(AGE, 2)
+        );
+
+        RecordBatch inferred = RecordBatch.of(records);
+        assertTrue(inferred.row(0).get(NAME).isEmpty());
+        assertEquals(3L, inferred.sumInt(AGE));
+        assertEquals(records, inferred.toRecords());
+
+        RecordBatch declared = RecordBatch.of(RecordBatch.schema().field(NAME).intField(AGE), records);
+        assertEquals(records, declared.project(NAME, AGE).toRecords());
+        assertThrows(IllegalArgumentException.class,
+                () -> RecordBatch.of(RecordBatch.schema().intField(AGE).field(NAME), List.of(
+                        ExtensibleRecord.create().extend(NAME, "Alice").extend(AGE, null))));
+    }
+}
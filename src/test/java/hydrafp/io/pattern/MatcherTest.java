@@ -0,0 +1,62 @@
+package hydrafp.io.pattern;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatcherTest {
+
+    private static final Matcher<Object, String> DESCRIBE = Match.<Object, String>compile()
+            .when(1).then("one")
+            .when(2).then("two")
+            .whenType(Integer.class).then(i -> "int " + i)
+            .whenType(CharSequence.class).then(s -> "text " + s)
+            .otherwise(v -> "other " + v)
+            .build();
+
+    @Test
+    void testConstantDispatch() {
+        assertEquals("one", DESCRIBE.apply(1));
+        assertEquals("two", DESCRIBE.apply(2));
+    }
+
+    @Test
+    void testTypeDispatch() {
+        assertEquals("int 3", DESCRIBE.apply(3));
+        assertEquals("text abc", DESCRIBE.apply("abc"));
+        assertEquals("text sb", DESCRIBE.apply(new StringBuilder("sb")));
+        assertEquals("other 1.5", DESCRIBE.apply(1.5));
+    }
+
+    @Test
+    void testFirstMatchingCaseWins() {
+        Matcher<Integer, String> matcher = Match.<Integer, String>compile()
+                .when(n -> n > 10).then("big")
+                .when(42).then("answer")
+                .whenType(Integer.class).then(n -> "small")
+                .when(n -> true).then("unreachable")
+                .build();
+
+        assertEquals("big", matcher.apply(42));
+        assertEquals("small", matcher.apply(7));
+    }
+
+    @Test
+    void testMatchReturnsOption() {
+        Matcher<String, Integer> matcher = Match.<String, Integer>compile()
+                .when("a").then(1)
+                .build();
+
+        assertEquals(1, matcher.match("a").getOrElse(-1));
+        assertTrue(matcher.match("b").isEmpty());
+        assertThrows(IllegalStateException.class, () -> matcher.apply("b"));
+    }
+
+    @Test
+    void testSharedAcrossThreads() {
+        assertTrue(IntStream.range(0, 10_000).parallel()
+                .allMatch(i -> DESCRIBE.apply(i).equals(i == 1 ? "one" : i == 2 ? "two" : "int " + i)));
+    }
+}
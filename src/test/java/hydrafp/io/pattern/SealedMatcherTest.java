@@ -0,0 +1,90 @@
+package hydrafp.io.pattern;
+
+import hydrafp.io.core.adt.Either;
+import hydrafp.io.core.adt.Option;
+import hydrafp.io.core.adt.Try;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SealedMatcherTest {
+
+    sealed interface Shape {}
+
+    record Circle(double radius) implements Shape {}
+
+    record Square(double side) implements Shape {}
+
+    sealed interface Polygon extends Shape {}
+
+    record Triangle(double base, double height) implements Polygon {}
+
+    record Hexagon(double side) implements Polygon {}
+
+    @Test
+    void testOptionMatcher() {
+        SealedMatcher<Option<String>, Integer> length = Match.<String, Integer>onOption()
+                .some(String::length)
+                .none(() -> 0)
+                .build();
+
+        assertEquals(5, length.apply(Option.some("hello")));
+        assertEquals(0, length.apply(Option.none()));
+    }
+
+    @Test
+    void testEitherMatcher() {
+        SealedMatcher<Either<String, Integer>, String> describe = Match.<String, Integer, String>onEither()
+                .left(error -> "error: " + error)
+                .right(value -> "value: " + value)
+                .build();
+
+        assertEquals("error: boom", describe.apply(Either.left("boom")));
+        assertEquals("value: 42", describe.apply(Either.right(42)));
+    }
+
+    @Test
+    void testTryMatcher() {
+        SealedMatcher<Try<Integer>, String> describe = Match.<Integer, String>onTry()
+                .success(value -> "ok " + value)
+                .failure(Throwable::getMessage)
+                .build();
+
+        assertEquals("ok 1", describe.apply(Try.success(1)));
+        assertEquals("bad", describe.apply(Try.failure(new IllegalStateException("bad"))));
+    }
+
+    @Test
+    void testMissingAdtCaseIsRejected() {
+        assertThrows(IllegalStateException.class, () -> Match.<String, Integer>onOption().some(String::length).build());
+        assertThrows(IllegalStateException.class, () -> Match.<String, Integer, String>onEither().left(e -> e).build());
+        assertThrows(IllegalStateException.class, () -> Match.<Integer, String>onTry().success(Object::toString).build());
+    }
+
+    @Test
+    void testSealedHierarchyMatcher() {
+        SealedMatcher<Shape, String> name = Match.<Shape, String>onSealed(Shape.class)
+                .on(Circle.class, c -> "circle " + c.radius())
+                .on(Square.class, s -> "square " + s.side())
+                .on(Triangle.class, t -> "triangle")
+                .on(Polygon.class, p -> "polygon")
+                .build();
+
+        assertEquals("circle 1.0", name.apply(new Circle(1)));
+        assertEquals("square 2.0", name.apply(new Square(2)));
+        assertEquals("triangle", name.apply(new Triangle(1, 2)));
+        assertEquals("polygon", name.apply(new Hexagon(3)));
+    }
+
+    @Test
+    void testNonExhaustiveSealedMatcherIsRejected() {
+        IllegalStateException error = assertThrows(IllegalStateException.class, () ->
+                Match.<Shape, String>onSealed(Shape.class)
+                        .on(Circle.class, c -> "circle")
+                        .on(Triangle.class, t -> "triangle")
+                        .build());
+
+        assertTrue(error.getMessage().contains("Square"));
+        assertThrows(IllegalArgumentException.class, () -> Match.onSealed(Object.class));
+    }
+}
@@ -2,6 +2,8 @@ package hydrafp.io.pattern;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.function.Function;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class WhenTest {
@@ -93,4 +95,53 @@ class WhenTest {
         assertEquals(10.0, doubleResult);
     }
 
-}
\ No newline at end of file
+    enum Color { RED, GREEN, BLUE }
+
+    @Test
+    void testCompiledIntCases() {
+        Function<Integer, String> describe = When.<Integer, String>cases()
+                .is(1, () -> "One")
+                .is(2, () -> "Two")
+                .is(x -> x > 100, () -> "Large")
+                .elseIs(() -> "Other")
+                .build();
+
+        assertEquals("One", describe.apply(1));
+        assertEquals("Two", describe.apply(2));
+        assertEquals("Large", describe.apply(500));
+        assertEquals("Other", describe.apply(50));
+    }
+
+    @Test
+    void testCompiledEnumAndStringCases() {
+        Function<Color, Integer> rank = When.<Color, Integer>cases()
+                .is(Color.GREEN, () -> 2)
+                .is(Color.RED, () -> 1)
+                .build();
+        Function<String, Integer> length = When.<String, Integer>cases()
+                .is("one", () -> 3)
+                .is("three", () -> 5)
+                .elseIs(() -> -1)
+                .build();
+
+        assertEquals(1, rank.apply(Color.RED));
+        assertEquals(2, rank.apply(Color.GREEN));
+        assertThrows(IllegalStateException.class, () -> rank.apply(Color.BLUE));
+        assertEquals(5, length.apply("three"));
+        assertEquals(-1, length.apply("four"));
+    }
+
+    @Test
+    void testCompiledCasesKeepDeclarationOrder() {
+        Function<Integer, String> describe = When.<Integer, String>cases()
+                .is(x -> x % 2 == 0, () -> "Even")
+                .is(4, () -> "Four")
+                .is(3, () -> "Three")
+                .is(x -> true, () -> "Any")
+                .build();
+
+        assertEquals("Even", describe.apply(4));
+        assertEquals("Three", describe.apply(3));
+        assertEquals("Any", describe.apply(5));
+    }
+}